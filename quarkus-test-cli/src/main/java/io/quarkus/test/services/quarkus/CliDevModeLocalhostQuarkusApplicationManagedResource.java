@@ -3,6 +3,7 @@ package io.quarkus.test.services.quarkus;
 import static io.quarkus.test.services.quarkus.model.QuarkusProperties.PLATFORM_GROUP_ID;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ public class CliDevModeLocalhostQuarkusApplicationManagedResource extends Quarku
     private Process process;
     private LoggingHandler loggingHandler;
     private int assignedHttpPort;
+    private final List<Integer> reservedPorts = new ArrayList<>();
 
     public CliDevModeLocalhostQuarkusApplicationManagedResource(ServiceContext serviceContext,
             QuarkusCliClient client) {
@@ -68,6 +70,7 @@ public class CliDevModeLocalhostQuarkusApplicationManagedResource extends Quarku
         }
 
         ProcessUtils.destroy(process);
+        releasePorts();
     }
 
     @Override
@@ -117,6 +120,8 @@ public class CliDevModeLocalhostQuarkusApplicationManagedResource extends Quarku
     }
 
     private void assignPorts() {
+        // the ports of a previous start are released, even if the process exited without being stopped
+        releasePorts();
         assignedHttpPort = getOrAssignPortByProperty(QUARKUS_HTTP_PORT_PROPERTY);
     }
 
@@ -124,6 +129,17 @@ public class CliDevModeLocalhostQuarkusApplicationManagedResource extends Quarku
         return serviceContext.getOwner().getProperty(property)
                 .filter(str -> !str.isEmpty())
                 .map(Integer::parseInt)
-                .orElseGet(SocketUtils::findAvailablePort);
+                .orElseGet(this::reservePort);
+    }
+
+    private int reservePort() {
+        int port = SocketUtils.findAvailablePort();
+        reservedPorts.add(port);
+        return port;
+    }
+
+    private void releasePorts() {
+        reservedPorts.forEach(SocketUtils::releasePort);
+        reservedPorts.clear();
     }
 }
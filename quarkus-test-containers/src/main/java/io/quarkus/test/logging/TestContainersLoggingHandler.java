@@ -1,25 +1,231 @@
 package io.quarkus.test.logging;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import org.testcontainers.containers.GenericContainer;
 
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+
 import io.quarkus.test.bootstrap.Service;
 
+/**
+ * Follow the container logs using a single streaming request, so the lines are received as soon as they are printed.
+ * When the stream is closed (for example, the container was restarted), it follows the logs again since the last
+ * received line.
+ */
 public class TestContainersLoggingHandler extends ServiceLoggingHandler {
 
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final char TIMESTAMP_SEPARATOR = ' ';
+    private static final long DRAIN_TIMEOUT_SECONDS = 5;
+
     private final GenericContainer<?> container;
+    /**
+     * Only the frames of the current callback are handled, so a closing stream does not push lines anymore.
+     */
+    private final Object framesLock = new Object();
 
-    private String oldLogs;
+    private volatile FollowCallback follow;
+    private boolean stopped;
+    private volatile Instant lastTimestamp;
+    private volatile Instant replayedUntil;
 
     public TestContainersLoggingHandler(Service service, GenericContainer<?> container) {
         super(service);
         this.container = container;
     }
 
+    @Override
+    public synchronized void startWatching() {
+        stopped = false;
+        super.startWatching();
+    }
+
+    /**
+     * The lines still in transit when the stream is closed are read again, so the last lines are not lost.
+     */
+    @Override
+    public void stopWatching() {
+        synchronized (this) {
+            stopped = true;
+            drain();
+        }
+
+        super.stopWatching();
+    }
+
+    /**
+     * The lines are pushed by the stream, so it only needs to start following the logs when the container is started
+     * or the stream was closed.
+     */
     @Override
     protected synchronized void handle() {
-        String newLogs = container.getLogs();
-        onStringDifference(newLogs, oldLogs);
-        oldLogs = newLogs;
+        if (stopped || isFollowing() || container.getContainerId() == null || !container.isRunning()) {
+            return;
+        }
+
+        closeFollow(true);
+        follow(logsSinceLastLine().withFollowStream(true));
+    }
+
+    private boolean isFollowing() {
+        FollowCallback current = follow;
+        return current != null && !current.completed;
+    }
+
+    private FollowCallback follow(LogContainerCmd command) {
+        FollowCallback callback = new FollowCallback();
+        follow = callback;
+        return command.exec(callback);
     }
 
+    private LogContainerCmd logsSinceLastLine() {
+        LogContainerCmd command = container.getDockerClient().logContainerCmd(container.getContainerId())
+                .withStdOut(true)
+                .withStdErr(true)
+                .withTimestamps(true);
+        if (lastTimestamp != null) {
+            // Docker only supports seconds, so the lines already received in the same second are skipped
+            command.withSince((int) lastTimestamp.getEpochSecond());
+            replayedUntil = lastTimestamp;
+        }
+
+        return command;
+    }
+
+    /**
+     * Stop handling the frames of the current stream and close it.
+     *
+     * @param flush whether the pending partial lines are handled as complete lines, as they will not be received again.
+     */
+    private void closeFollow(boolean flush) {
+        FollowCallback current;
+        synchronized (framesLock) {
+            current = follow;
+            if (current == null) {
+                return;
+            }
+
+            if (flush) {
+                current.flushPartialLines();
+            }
+
+            follow = null;
+        }
+
+        try {
+            current.close();
+        } catch (IOException ignored) {
+            // the stream is not used anymore
+        }
+    }
+
+    /**
+     * Replace the current stream by a single read of the logs printed since the last received line, including the
+     * pending partial lines. When the logs can't be read anymore, the pending partial lines are flushed instead.
+     */
+    private void drain() {
+        if (container.getContainerId() == null || !container.isRunning()) {
+            closeFollow(true);
+            return;
+        }
+
+        closeFollow(false);
+        try {
+            FollowCallback callback = follow(logsSinceLastLine());
+            if (!callback.awaitCompletion(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Log.debug("Could not read the last container logs in %s seconds", DRAIN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            Log.debug("Could not read the last container logs. Caused by %s", ex.getMessage());
+        } finally {
+            closeFollow(true);
+        }
+    }
+
+    private void onRawLine(String rawLine) {
+        int separator = rawLine.indexOf(TIMESTAMP_SEPARATOR);
+        String line = rawLine;
+        if (separator > 0) {
+            try {
+                Instant timestamp = Instant.parse(rawLine.substring(0, separator));
+                if (replayedUntil != null && !timestamp.isAfter(replayedUntil)) {
+                    return;
+                }
+
+                replayedUntil = null;
+                lastTimestamp = timestamp;
+                line = rawLine.substring(separator + 1);
+            } catch (DateTimeParseException ignored) {
+                // not prefixed by a timestamp
+            }
+        }
+
+        if (!line.isEmpty()) {
+            onLine(line);
+        }
+    }
+
+    private final class FollowCallback extends ResultCallback.Adapter<Frame> {
+
+        private final Map<StreamType, ByteArrayOutputStream> partialLines = new EnumMap<>(StreamType.class);
+        private volatile boolean completed;
+
+        @Override
+        public void onNext(Frame frame) {
+            synchronized (framesLock) {
+                if (follow != this || frame.getPayload() == null) {
+                    return;
+                }
+
+                ByteArrayOutputStream partialLine = partialLines.computeIfAbsent(frame.getStreamType(),
+                        type -> new ByteArrayOutputStream());
+                for (byte current : frame.getPayload()) {
+                    if (current == LINE_FEED) {
+                        onRawLine(partialLine.toString(StandardCharsets.UTF_8));
+                        partialLine.reset();
+                    } else if (current != CARRIAGE_RETURN) {
+                        partialLine.write(current);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed = true;
+            super.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            super.onComplete();
+        }
+
+        /**
+         * Must be called holding the frames lock.
+         */
+        private void flushPartialLines() {
+            for (ByteArrayOutputStream partialLine : partialLines.values()) {
+                if (partialLine.size() > 0) {
+                    onRawLine(partialLine.toString(StandardCharsets.UTF_8));
+                    partialLine.reset();
+                }
+            }
+        }
+    }
 }
@@ -1,19 +1,20 @@
 package io.quarkus.test.services.containers;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Optional;
-import java.util.ServiceLoader;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ManagedResourceBuilder;
 import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.services.Container;
 import io.quarkus.test.utils.PropertiesUtils;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class ContainerManagedResourceBuilder implements ManagedResourceBuilder {
 
-    private final ServiceLoader<ContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoader
-            .load(ContainerManagedResourceBinding.class);
+    private final List<ContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoaderUtils
+            .loadAll(ContainerManagedResourceBinding.class);
 
     private ServiceContext context;
     private String image;
@@ -61,4 +62,12 @@ public class ContainerManagedResourceBuilder implements ManagedResourceBuilder {
 
         return new GenericDockerContainerManagedResource(this);
     }
+
+    /**
+     * Use the context of the service reusing the running container. Builders keeping their own context must override
+     * it.
+     */
+    protected void rebind(ServiceContext context) {
+        this.context = context;
+    }
 }
@@ -9,21 +9,31 @@ import static io.quarkus.test.utils.PropertiesUtils.RESOURCE_WITH_DESTINATION_SP
 import static io.quarkus.test.utils.PropertiesUtils.SECRET_PREFIX;
 import static io.quarkus.test.utils.PropertiesUtils.SLASH;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.MountableFile;
 
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.TopContainerResponse;
+
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.Protocol;
 import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.logging.Log;
 import io.quarkus.test.logging.LoggingHandler;
 import io.quarkus.test.logging.TestContainersLoggingHandler;
 import io.quarkus.test.services.URILike;
@@ -32,9 +42,10 @@ import io.quarkus.test.utils.DockerUtils;
 public abstract class DockerContainerManagedResource implements ManagedResource {
 
     private static final String DELETE_IMAGE_ON_STOP_PROPERTY = "container.delete.image.on.stop";
+    private static final int CONTAINER_START_WEIGHT = 2;
     private static final String TARGET = "target";
 
-    private final ServiceContext context;
+    private ServiceContext context;
 
     private GenericContainer<?> innerContainer;
     private LoggingHandler loggingHandler;
@@ -74,6 +85,20 @@ public abstract class DockerContainerManagedResource implements ManagedResource
 
     protected abstract GenericContainer<?> initContainer();
 
+    /**
+     * Use the new context for the running container, and follow its logs again on behalf of the new owner service.
+     * Subclasses keeping their own state of the service context must rebind it too.
+     */
+    protected void rebindContainer(ServiceContext context) {
+        this.context = context;
+        if (loggingHandler != null) {
+            loggingHandler.stopWatching();
+        }
+
+        loggingHandler = new TestContainersLoggingHandler(context.getOwner(), innerContainer);
+        loggingHandler.startWatching();
+    }
+
     @Override
     public void stop() {
         if (loggingHandler != null) {
@@ -102,11 +127,71 @@ public abstract class DockerContainerManagedResource implements ManagedResource
         return innerContainer != null && innerContainer.isRunning();
     }
 
+    @Override
+    public int getStartWeight() {
+        return CONTAINER_START_WEIGHT;
+    }
+
     @Override
     public List<String> logs() {
         return loggingHandler.logs();
     }
 
+    @Override
+    public void addLogListener(Consumer<String> listener) {
+        if (loggingHandler != null) {
+            loggingHandler.addLineListener(listener);
+        }
+    }
+
+    @Override
+    public void removeLogListener(Consumer<String> listener) {
+        if (loggingHandler != null) {
+            loggingHandler.removeLineListener(listener);
+        }
+    }
+
+    @Override
+    public Optional<Long> getFirstLogLineTime() {
+        if (loggingHandler == null) {
+            return Optional.empty();
+        }
+
+        return loggingHandler.getFirstLineTime();
+    }
+
+    @Override
+    public CompletableFuture<String> awaitLog(Predicate<String> predicate) {
+        if (loggingHandler == null) {
+            return ManagedResource.super.awaitLog(predicate);
+        }
+
+        return loggingHandler.await(predicate);
+    }
+
+    /**
+     * Store the processes running in the container and its state as reported by Docker.
+     */
+    @Override
+    public void captureDiagnostics(Path folder) {
+        if (!isRunning()) {
+            return;
+        }
+
+        DockerClient client = innerContainer.getDockerClient();
+        String containerId = innerContainer.getContainerId();
+        try {
+            TopContainerResponse top = client.topContainerCmd(containerId).exec();
+            StringBuilder processes = new StringBuilder(String.join("\t", top.getTitles())).append(System.lineSeparator());
+            Arrays.stream(top.getProcesses())
+                    .forEach(process -> processes.append(String.join("\t", process)).append(System.lineSeparator()));
+            Files.writeString(folder.resolve("processes.txt"), processes);
+            Files.writeString(folder.resolve("inspect.txt"), client.inspectContainerCmd(containerId).exec().toString());
+        } catch (IOException ex) {
+            Log.warn(context.getOwner(), "Could not store the container diagnostics. Caused by " + ex.getMessage());
+        }
+    }
+
     protected int getMappedPort(int port) {
         return innerContainer.getMappedPort(port);
     }
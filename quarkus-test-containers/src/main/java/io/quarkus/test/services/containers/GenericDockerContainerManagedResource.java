@@ -4,6 +4,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 
+import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.logging.Log;
 import io.quarkus.test.utils.DockerUtils;
 
@@ -45,14 +46,15 @@ public class GenericDockerContainerManagedResource extends DockerContainerManage
             container.setPrivilegedMode(true);
         }
 
-        container.withCreateContainerCmdModifier(cmd -> cmd.withName(DockerUtils.generateDockerContainerName()));
-
         if (isReusable()) {
             Log.info(model.getContext().getOwner(), "Running container on Reusable mode");
             Log.warn(model.getContext().getOwner(), "Reusable mode expose testcontainers 'withReuse' method that is"
                     + " tagged as UnstableAPI, so is a subject to change and SHOULD NOT be considered a stable API");
 
             container.withReuse(true);
+        } else {
+            // reusable containers are not named, as a random name would change the hash used to find them again
+            container.withCreateContainerCmdModifier(cmd -> cmd.withName(DockerUtils.generateDockerContainerName()));
         }
 
         container.withExposedPorts(model.getPort());
@@ -60,6 +62,20 @@ public class GenericDockerContainerManagedResource extends DockerContainerManage
         return container;
     }
 
+    /**
+     * The container only depends on the service context through the builder, so it can be reused by another service.
+     */
+    @Override
+    public boolean isRebindable() {
+        return true;
+    }
+
+    @Override
+    public void rebind(ServiceContext context) {
+        model.rebind(context);
+        rebindContainer(context);
+    }
+
     @Override
     public void stop() {
         if (!isReusable()) {
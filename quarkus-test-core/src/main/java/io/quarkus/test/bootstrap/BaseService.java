@@ -1,29 +1,38 @@
 package io.quarkus.test.bootstrap;
 
-import static io.quarkus.test.utils.AwaitilityUtils.AwaitilitySettings;
-import static io.quarkus.test.utils.AwaitilityUtils.untilIsTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.awaitility.core.ConditionTimeoutException;
 
 import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.logging.Log;
 import io.quarkus.test.services.URILike;
+import io.quarkus.test.utils.CleanupQueue;
 import io.quarkus.test.utils.FileUtils;
+import io.quarkus.test.utils.FrameworkExecutor;
 import io.quarkus.test.utils.LogsVerifier;
 import io.quarkus.test.utils.PropertiesUtils;
+import io.quarkus.test.utils.ResourceScheduler;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class BaseService<T extends Service> implements Service {
 
@@ -33,23 +42,35 @@ public class BaseService<T extends Service> implements Service {
 
     private static final String SERVICE_STARTUP_CHECK_POLL_INTERVAL = "startup.check-poll-interval";
     private static final Duration SERVICE_STARTUP_CHECK_POLL_INTERVAL_DEFAULT = Duration.ofSeconds(2);
+    private static final String SERVICE_STARTUP_LAZY = "startup.lazy";
+    private static final String TIMEOUT_FACTOR_PROPERTY = "factor.timeout";
+    private static final String SCHEDULER_WEIGHT = "scheduler.weight";
+    private static final String DIAGNOSTICS_ENABLED = "diagnostics.enabled";
+    private static final String DIAGNOSTICS_FOLDER_SUFFIX = "-diagnostics";
+    private static final int FAILURE_LOG_LINES = 20;
 
     protected ServiceContext context;
-    private final ServiceLoader<ServiceListener> listeners = ServiceLoader.load(ServiceListener.class);
+    private final List<ServiceListener> listeners = ServiceLoaderUtils.loadAll(ServiceListener.class);
     private final List<Action> onPreStartActions = new LinkedList<>();
     private final List<Action> onPostStartActions = new LinkedList<>();
     private final Map<String, String> properties = new HashMap<>();
     private final List<Runnable> futureProperties = new LinkedList<>();
+    private final List<Service> dependencies = new LinkedList<>();
+    private final Object startLock = new Object();
 
     private ManagedResourceBuilder managedResourceBuilder;
     private ManagedResource managedResource;
     private String serviceName;
     private Configuration configuration;
     private boolean autoStart = true;
+    private volatile boolean reusedFromPool;
+    private Boolean lazyStart;
+    private volatile CompletableFuture<Void> pendingStart;
+    private volatile Thread pendingStartThread;
 
     @Override
     public String getScenarioId() {
-        return context.getScenarioId();
+        return context != null ? context.getScenarioId() : null;
     }
 
     @Override
@@ -72,6 +93,15 @@ public class BaseService<T extends Service> implements Service {
         return autoStart;
     }
 
+    @Override
+    public boolean isLazyStart() {
+        if (lazyStart != null) {
+            return lazyStart;
+        }
+
+        return configuration != null && configuration.isTrue(SERVICE_STARTUP_LAZY);
+    }
+
     public T onPreStart(Action action) {
         onPreStartActions.add(action);
         return (T) this;
@@ -87,6 +117,29 @@ public class BaseService<T extends Service> implements Service {
         return (T) this;
     }
 
+    /**
+     * Lazy services are started in background when the scenario begins, and the first call that needs the service
+     * running (for example, {@link #getURI()}) waits until it is ready. It can be also enabled using `startup.lazy`.
+     */
+    public T setLazyStart(boolean lazyStart) {
+        this.lazyStart = lazyStart;
+        return (T) this;
+    }
+
+    /**
+     * The services that need to be started before this service.
+     * Services with no dependency between them can be started in parallel using `startup.parallel.enabled`.
+     */
+    public T dependsOn(Service... services) {
+        dependencies.addAll(Arrays.asList(services));
+        return (T) this;
+    }
+
+    @Override
+    public List<Service> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+
     /**
      * The runtime configuration property to be used if the built artifact is
      * configured to be run.
@@ -129,11 +182,12 @@ public class BaseService<T extends Service> implements Service {
     }
 
     public URILike getURI(Protocol protocol) {
+        awaitPendingStart();
         return managedResource.getURI(protocol);
     }
 
     public URILike getURI() {
-        return managedResource.getURI(Protocol.NONE);
+        return getURI(Protocol.NONE);
     }
 
     @Deprecated
@@ -163,9 +217,21 @@ public class BaseService<T extends Service> implements Service {
 
     @Override
     public List<String> getLogs() {
+        awaitPendingStart();
         return new ArrayList<>(managedResource.logs());
     }
 
+    @Override
+    public CompletableFuture<String> awaitLog(Predicate<String> predicate) {
+        awaitPendingStart();
+        return managedResource.awaitLog(predicate);
+    }
+
+    @Override
+    public StartupTimings getStartupTimings() {
+        return context.getStartupTimings();
+    }
+
     @Override
     public String getProperty(String property, String defaultValue) {
         String value = getProperties().get(property);
@@ -189,16 +255,57 @@ public class BaseService<T extends Service> implements Service {
      */
     @Override
     public void start() {
-        if (isRunning()) {
-            return;
+        awaitPendingStart();
+        // test methods running concurrently might start the service at the same time
+        synchronized (startLock) {
+            if (isRunning()) {
+                if (reusedFromPool) {
+                    onReusedFromPool();
+                }
+
+                return;
+            }
+
+            Log.debug(this, "Starting service (%s)", getDisplayName());
+            StartupTimings timings = getStartupTimings();
+            onPreStartActions.forEach(a -> a.handle(this));
+            int weight = getConfiguration().getAsInteger(SCHEDULER_WEIGHT, managedResource.getStartWeight());
+            try (ResourceScheduler.Lease lease = ResourceScheduler.acquire("start " + getName(), weight)) {
+                long spawning = System.nanoTime();
+                timings.record(StartupTimings.Phase.SPAWN, this::doStart);
+                waitUntilServiceIsStarted();
+                timings.record(StartupTimings.Phase.READINESS, Duration.ofNanos(System.nanoTime() - spawning));
+                managedResource.getFirstLogLineTime()
+                        .filter(received -> received - spawning >= 0)
+                        .ifPresent(received -> timings.record(StartupTimings.Phase.FIRST_LOG_LINE,
+                                Duration.ofNanos(received - spawning)));
+            }
+
+            timings.record(StartupTimings.Phase.POST_START, () -> onPostStartActions.forEach(a -> a.handle(this)));
+            Log.info(this, "Service started (%s)", getDisplayName());
+            Log.debug(this, "Service startup timings: %s", timings);
         }
+    }
 
-        Log.debug(this, "Starting service (%s)", getDisplayName());
-        onPreStartActions.forEach(a -> a.handle(this));
-        doStart();
-        waitUntilServiceIsStarted();
-        onPostStartActions.forEach(a -> a.handle(this));
-        Log.info(this, "Service started (%s)", getDisplayName());
+    /**
+     * Start the managed resource in background. If the managed resource is running or it's already being started, it
+     * does nothing.
+     */
+    @Override
+    public synchronized CompletableFuture<Void> startInBackground() {
+        if ((pendingStart != null && !pendingStart.isDone()) || (isRunning() && !reusedFromPool)) {
+            return pendingStart != null ? pendingStart : CompletableFuture.completedFuture(null);
+        }
+
+        pendingStart = CompletableFuture.runAsync(() -> {
+            pendingStartThread = Thread.currentThread();
+            try {
+                start();
+            } finally {
+                pendingStartThread = null;
+            }
+        }, FrameworkExecutor.getExecutorService());
+        return pendingStart;
     }
 
     /**
@@ -206,6 +313,16 @@ public class BaseService<T extends Service> implements Service {
      */
     @Override
     public void stop() {
+        CompletableFuture<Void> pending = pendingStart;
+        try {
+            awaitPendingStart();
+        } catch (Throwable ex) {
+            // the failure was reported to the scenario by whoever started the service in background
+            Log.debug(this, "Service failed to start in background. Caused by " + ex.getMessage());
+        } finally {
+            clearPendingStart(pending);
+        }
+
         if (!isRunning()) {
             return;
         }
@@ -223,13 +340,14 @@ public class BaseService<T extends Service> implements Service {
     @Override
     public void close() {
         if (!context.getScenarioContext().isDebug()) {
+            if (isPoolable() && managedResource.isRebindable() && !context.getScenarioContext().isFailed() && isRunning()) {
+                releaseToPool();
+                return;
+            }
+
             stop();
             if (getConfiguration().isTrue(DELETE_FOLDER_ON_EXIT)) {
-                try {
-                    FileUtils.deletePath(getServiceFolder());
-                } catch (Exception ex) {
-                    Log.warn(this, "Could not delete service folder. Caused by " + ex.getMessage());
-                }
+                CleanupQueue.deletePath(getServiceFolder());
             }
         }
     }
@@ -247,9 +365,22 @@ public class BaseService<T extends Service> implements Service {
     @Override
     public void init(ManagedResourceBuilder managedResourceBuilder) {
         FileUtils.recreateDirectory(context.getServiceFolder());
-        this.managedResourceBuilder = managedResourceBuilder;
-        this.managedResource = managedResourceBuilder.build(context);
-        this.managedResource.validate();
+        ServicePool.PooledResource pooledResource = null;
+        if (isPoolable()) {
+            pooledResource = ServicePool.acquire(context.get(ServicePool.FINGERPRINT), context).orElse(null);
+        }
+
+        reusedFromPool = pooledResource != null;
+        if (reusedFromPool) {
+            this.managedResourceBuilder = pooledResource.getBuilder();
+            this.managedResource = pooledResource.getResource();
+            Log.info(this, "Reusing pooled service (%s)", getDisplayName());
+        } else {
+            this.managedResourceBuilder = managedResourceBuilder;
+            this.managedResource = managedResourceBuilder.build(context);
+            this.managedResource.validate();
+        }
+
         this.onPostStart((service) -> this.managedResource.afterStart());
     }
 
@@ -259,6 +390,7 @@ public class BaseService<T extends Service> implements Service {
 
     @Override
     public LogsVerifier logs() {
+        awaitPendingStart();
         return new LogsVerifier(this);
     }
 
@@ -274,6 +406,32 @@ public class BaseService<T extends Service> implements Service {
         return context.get(key);
     }
 
+    /**
+     * Services are poolable when enabled via `pool.enabled` and all the properties are known before starting them.
+     */
+    private boolean isPoolable() {
+        return context.get(ServicePool.FINGERPRINT) != null
+                && getConfiguration().isTrue(ServicePool.POOL_ENABLED)
+                && futureProperties.isEmpty();
+    }
+
+    private void releaseToPool() {
+        Log.debug(this, "Releasing service to the pool (%s)", getDisplayName());
+        listeners.forEach(ext -> ext.onServiceStopped(context));
+        ServicePool.release(context.get(ServicePool.FINGERPRINT), new ServicePool.PooledResource(managedResourceBuilder,
+                managedResource, getServiceFolder(), getConfiguration().isTrue(DELETE_FOLDER_ON_EXIT)));
+    }
+
+    /**
+     * The resource is already running, so the new scenario is told that the service started once it's launched.
+     */
+    private void onReusedFromPool() {
+        reusedFromPool = false;
+        onPostStartActions.forEach(a -> a.handle(this));
+        listeners.forEach(ext -> ext.onServiceStarted(context));
+        Log.info(this, "Service started from the pool (%s)", getDisplayName());
+    }
+
     private void doStart() {
         try {
             managedResource.start();
@@ -284,24 +442,97 @@ public class BaseService<T extends Service> implements Service {
         }
     }
 
+    /**
+     * Wait for the start in background, if any. The pending start is kept until the service stops, so every caller
+     * waits for it and gets its failure.
+     */
+    private void awaitPendingStart() {
+        CompletableFuture<Void> pending = pendingStart;
+        if (pending == null || Thread.currentThread() == pendingStartThread) {
+            return;
+        }
+
+        try {
+            pending.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            } else if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    private synchronized void clearPendingStart(CompletableFuture<Void> pending) {
+        if (pending != null && pendingStart == pending) {
+            pendingStart = null;
+        }
+    }
+
     private boolean isRunningOrFailed() {
         if (managedResource != null && managedResource.isFailed()) {
+            String reason = managedResource.getFailureReason().orElse("Resource failed to start");
+            List<String> logs = managedResource.logs();
+            List<String> lastLogs = logs.subList(Math.max(0, logs.size() - FAILURE_LOG_LINES), logs.size());
             managedResource.stop();
-            fail("Resource failed to start");
+            fail(String.format("%s. Last %d lines of logs:%n%s", reason, lastLogs.size(), String.join("\n", lastLogs)));
         }
 
         return isRunning();
     }
 
+    /**
+     * Wait until the service is running. The check runs every time the resource prints a new log line and, as fallback,
+     * every `startup.check-poll-interval`.
+     */
     private void waitUntilServiceIsStarted() {
         Duration startupCheckInterval = getConfiguration()
                 .getAsDuration(SERVICE_STARTUP_CHECK_POLL_INTERVAL, SERVICE_STARTUP_CHECK_POLL_INTERVAL_DEFAULT);
         Duration startupTimeout = getConfiguration()
                 .getAsDuration(SERVICE_STARTUP_TIMEOUT, SERVICE_STARTUP_TIMEOUT_DEFAULT);
-        untilIsTrue(this::isRunningOrFailed, AwaitilitySettings
-                .using(startupCheckInterval, startupTimeout)
-                .doNotIgnoreExceptions()
-                .withService(this)
-                .timeoutMessage("Service didn't start in %s minutes", startupTimeout));
+        double timeoutFactor = getConfiguration().getAsDouble(TIMEOUT_FACTOR_PROPERTY, 1.0);
+        long deadline = System.nanoTime() + Math.round(startupTimeout.toNanos() * timeoutFactor);
+
+        Semaphore newLines = new Semaphore(0);
+        Consumer<String> lineListener = line -> newLines.release();
+        managedResource.addLogListener(lineListener);
+        try {
+            while (!isRunningOrFailed()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    String message = String.format("Service didn't start in %s minutes", startupTimeout);
+                    Log.warn(this, message);
+                    captureDiagnostics();
+                    throw new ConditionTimeoutException(message);
+                }
+
+                newLines.tryAcquire(Math.min(remaining, startupCheckInterval.toNanos()), TimeUnit.NANOSECONDS);
+                newLines.drainPermits();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } finally {
+            managedResource.removeLogListener(lineListener);
+        }
+    }
+
+    private void captureDiagnostics() {
+        if (!Boolean.parseBoolean(getConfiguration().getOrDefault(DIAGNOSTICS_ENABLED, Boolean.TRUE.toString()))) {
+            return;
+        }
+
+        ScenarioContext scenario = context.getScenarioContext();
+        Path folder = scenario.getLogFolder()
+                .resolve(scenario.getRunningTestClassName() + "-" + getName() + DIAGNOSTICS_FOLDER_SUFFIX);
+        try {
+            FileUtils.recreateDirectory(folder);
+            managedResource.captureDiagnostics(folder);
+            Log.warn(this, "Diagnostics of the service stored in %s", folder.toAbsolutePath());
+        } catch (Exception ex) {
+            Log.warn(this, "Could not capture the diagnostics of the service. Caused by " + ex.getMessage());
+        }
     }
 }
@@ -1,8 +1,16 @@
 package io.quarkus.test.bootstrap;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import io.quarkus.test.services.URILike;
+import io.quarkus.test.utils.FrameworkExecutor;
 
 public interface ManagedResource {
 
@@ -40,11 +48,109 @@ public interface ManagedResource {
         return false;
     }
 
+    /**
+     * @return the reason why the resource has failed, if known.
+     */
+    default Optional<String> getFailureReason() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the estimated machine resources (CPU and memory) needed to start the resource, in permits of the
+     *         machine-wide budget (see `scheduler.budget`).
+     */
+    default int getStartWeight() {
+        return 1;
+    }
+
     /**
      * @return the list of logs.
      */
     List<String> logs();
 
+    /**
+     * Register a listener to be notified for every new log line, so state changes can be detected without polling.
+     * Resources that do not support it do nothing.
+     */
+    default void addLogListener(Consumer<String> listener) {
+
+    }
+
+    default void removeLogListener(Consumer<String> listener) {
+
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} when the first log line since the last start was received. Resources that
+     *         do not notify the new lines return empty.
+     */
+    default Optional<Long> getFirstLogLineTime() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return a future completed with the first log line matching the predicate. Resources that notify the new lines
+     *         complete it as soon as the line is received, the rest look for it in the logs every second. When polling,
+     *         it's completed exceptionally if the resource stops before printing the line or after 10 minutes, so the
+     *         polling never outlives a future that nobody waits for anymore.
+     */
+    default CompletableFuture<String> awaitLog(Predicate<String> predicate) {
+        CompletableFuture<String> matchingLine = new CompletableFuture<>();
+        FrameworkExecutor.submit(() -> {
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(10);
+            boolean started = false;
+            try {
+                while (!matchingLine.isDone()) {
+                    logs().stream().filter(predicate).findFirst().ifPresent(matchingLine::complete);
+                    boolean running = isRunning();
+                    if (started && !running) {
+                        matchingLine.completeExceptionally(
+                                new IllegalStateException(getDisplayName() + " stopped before printing the log line"));
+                    } else if (System.nanoTime() - deadline > 0) {
+                        matchingLine.completeExceptionally(
+                                new TimeoutException(getDisplayName() + " did not print the log line in time"));
+                    }
+
+                    started |= running;
+                    if (!matchingLine.isDone()) {
+                        TimeUnit.SECONDS.sleep(1);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                matchingLine.completeExceptionally(ex);
+            }
+        });
+        return matchingLine;
+    }
+
+    /**
+     * Store in the folder whatever helps to understand why the resource did not start in time (thread dumps, heap
+     * summary, container state...). Resources that do not support it do nothing.
+     */
+    default void captureDiagnostics(Path folder) {
+
+    }
+
+    /**
+     * @return true if the running resource can be bound to the context of another service (see
+     *         {@link #rebind(ServiceContext)}), so it can be kept running and reused by the next scenarios (see
+     *         `pool.enabled`). Resources that keep state of their service context (like the Quarkus applications) do
+     *         not support it.
+     */
+    default boolean isRebindable() {
+        return false;
+    }
+
+    /**
+     * Bind the running resource to the context of the service that reuses it, so it uses the new owner service,
+     * configuration and logger.
+     */
+    default void rebind(ServiceContext context) {
+
+    }
+
     /**
      * Restart of the managed resource.
      */
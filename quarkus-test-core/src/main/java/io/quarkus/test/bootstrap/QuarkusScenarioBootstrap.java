@@ -3,12 +3,15 @@ package io.quarkus.test.bootstrap;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.ServiceLoader.Provider;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 
@@ -16,6 +19,8 @@ import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.ParameterContext;
@@ -23,34 +28,81 @@ import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.TestWatcher;
 
 import io.quarkus.test.bootstrap.TestContext.TestContextImpl;
+import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.logging.Log;
+import io.quarkus.test.scenarios.QuarkusScenario;
 import io.quarkus.test.services.quarkus.ProdQuarkusApplicationManagedResourceBuilder;
+import io.quarkus.test.utils.AwaitAccounting;
+import io.quarkus.test.utils.FrameworkExecutor;
 import io.quarkus.test.utils.ReflectionUtils;
 
 public class QuarkusScenarioBootstrap
         implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback,
-        ParameterResolver, LifecycleMethodExecutionExceptionHandler, TestWatcher {
+        ParameterResolver, LifecycleMethodExecutionExceptionHandler, TestWatcher, ExecutionCondition {
 
     private static final PropertyLookup CREATE_SERVICE_BY_DEFAULT = new PropertyLookup("generated-service.enabled",
             Boolean.TRUE.toString());
+    private static final PropertyLookup PARALLEL_STARTUP = new PropertyLookup("startup.parallel.enabled",
+            Boolean.FALSE.toString());
+    private static final PropertyLookup PARALLEL_STARTUP_MAX_THREADS = new PropertyLookup("startup.parallel.max-threads", "4");
+    private static final PropertyLookup PARALLEL_TEARDOWN = new PropertyLookup("teardown.parallel.enabled",
+            Boolean.FALSE.toString());
+    private static final PropertyLookup PARALLEL_TEARDOWN_MAX_THREADS = new PropertyLookup("teardown.parallel.max-threads",
+            "4");
     private static final String DEFAULT_SERVICE_NAME = "app";
+    private static final String JUNIT_PARALLEL_EXECUTION = "junit.jupiter.execution.parallel.enabled";
+    private static final String METHOD_SCENARIO = "method-scenario";
+    private static final String RESULT_CACHE_HASH = "result-cache.hash";
+    private static final int AWAIT_SUMMARY_SITES = 3;
+    private static final ExtensionContext.Namespace METHOD_NAMESPACE = ExtensionContext.Namespace
+            .create(QuarkusScenarioBootstrap.class);
 
-    private final ServiceLoader<AnnotationBinding> bindingsRegistry = ServiceLoader.load(AnnotationBinding.class);
     private final ServiceLoader<ExtensionBootstrap> extensionsRegistry = ServiceLoader.load(ExtensionBootstrap.class);
 
     private final List<Service> services = new ArrayList<>();
+    private final Set<Method> passedMethods = ConcurrentHashMap.newKeySet();
     private ScenarioContext scenario;
     private List<ExtensionBootstrap> extensions;
+    private boolean parallelExecution;
+    private String resultCacheHash;
+    private volatile boolean skippedMethods;
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getTestMethod().isPresent() || !ScenarioResultCache.ENABLED.getAsBoolean()) {
+            return ConditionEvaluationResult.enabled("Scenario result cache is not enabled");
+        }
+
+        Optional<String> hash = ScenarioResultCache.hashOf(context.getRequiredTestClass());
+        if (hash.isEmpty()) {
+            return ConditionEvaluationResult.enabled("Scenario inputs could not be hashed");
+        }
+
+        if (ScenarioResultCache.isPassed(hash.get())) {
+            return ConditionEvaluationResult.disabled("Skipped from cache: scenario inputs did not change since it passed");
+        }
+
+        toTestContext(context).getTestStore().put(RESULT_CACHE_HASH, hash.get());
+        return ConditionEvaluationResult.enabled("Scenario inputs changed since it last passed");
+    }
 
     @Override
     public void beforeAll(ExtensionContext ctx) {
+        parallelExecution = ctx.getConfigurationParameter(JUNIT_PARALLEL_EXECUTION, Boolean::parseBoolean).orElse(false);
         beforeAll(toTestContext(ctx));
     }
 
     public void beforeAll(TestContext context) {
+        // Pick up the system properties set since the configuration was loaded (for example, by the test class)
+        Configuration.refresh();
+
         // Init scenario context
         scenario = new ScenarioContext(context);
+        scenario.setParallelExecution(parallelExecution);
+        resultCacheHash = (String) context.getTestStore().get(RESULT_CACHE_HASH);
+        passedMethods.clear();
+        skippedMethods = false;
         Log.configure(scenario);
         Log.debug("Scenario ID: '%s'", scenario.getId());
 
@@ -59,7 +111,7 @@ public class QuarkusScenarioBootstrap
         extensions.forEach(ext -> ext.beforeAll(scenario));
 
         // Init services from test fields
-        ReflectionUtils.findAllFields(context.getRequiredTestClass()).forEach(field -> initResourceFromField(context, field));
+        ScenarioMetadata.of(context.getRequiredTestClass()).getFields().forEach(field -> initResourceFromField(context, field));
 
         // If no service was found, create one by default
         if (services.isEmpty() && CREATE_SERVICE_BY_DEFAULT.getAsBoolean()) {
@@ -68,7 +120,7 @@ public class QuarkusScenarioBootstrap
         }
 
         // Launch services
-        services.forEach(this::launchService);
+        launchServices();
     }
 
     @Override
@@ -78,12 +130,14 @@ public class QuarkusScenarioBootstrap
 
     public void afterAll() {
         try {
-            List<Service> servicesToFinish = new ArrayList<>(services);
-            Collections.reverse(servicesToFinish);
-            servicesToFinish.forEach(Service::close);
+            closeServices();
             deleteLogIfScenarioPassed();
+            cacheResultIfScenarioPassed();
         } finally {
+            logAwaitSummary();
             extensions.forEach(ext -> ext.afterAll(scenario));
+            AwaitAccounting.clear(scenario.getId());
+            Log.close(scenario);
         }
     }
 
@@ -91,26 +145,30 @@ public class QuarkusScenarioBootstrap
     public void beforeEach(ExtensionContext context) {
         Log.info("## Running test " + context.getParent().map(ctx -> ctx.getDisplayName() + ".").orElse("") + context
                 .getDisplayName());
-        beforeEach(toTestContext(context), context.getRequiredTestMethod().getName());
+        if (!isConcurrentMethods()) {
+            beforeEach(toTestContext(context), context.getRequiredTestMethod().getName());
+            return;
+        }
+
+        // every test method gets its own scenario context, so methods running concurrently don't override each other
+        ScenarioContext methodScenario = scenario.toMethodScenarioContext(toTestContext(context),
+                context.getRequiredTestMethod().getName());
+        context.getStore(METHOD_NAMESPACE).put(METHOD_SCENARIO, methodScenario);
+        beforeEachScenario(methodScenario);
     }
 
     public void beforeEach(TestContext testContext, String testMethodName) {
         scenario.setMethodTestContext(testContext, testMethodName);
-        extensions.forEach(ext -> ext.beforeEach(scenario));
-        services.forEach(service -> {
-            if (service.isAutoStart()) {
-                service.start();
-            }
-        });
+        beforeEachScenario(scenario);
     }
 
     @Override
     public void afterEach(ExtensionContext extensionContext) {
-        afterEach();
+        afterEachScenario(scenarioOf(extensionContext));
     }
 
     public void afterEach() {
-        extensions.forEach(ext -> ext.afterEach(scenario));
+        afterEachScenario(scenario);
     }
 
     @Override
@@ -130,7 +188,7 @@ public class QuarkusScenarioBootstrap
 
     @Override
     public void handleAfterEachMethodExecutionException(ExtensionContext context, Throwable throwable) {
-        scenarioOnError(throwable);
+        scenarioOnError(scenarioOf(context), throwable);
     }
 
     @Override
@@ -140,22 +198,77 @@ public class QuarkusScenarioBootstrap
 
     @Override
     public void testSuccessful(ExtensionContext context) {
-        extensions.forEach(ext -> ext.onSuccess(scenario));
+        passedMethods.add(context.getRequiredTestMethod());
+        ScenarioContext current = scenarioOf(context);
+        extensions.forEach(ext -> ext.onSuccess(current));
     }
 
     @Override
     public void testFailed(ExtensionContext context, Throwable cause) {
-        scenarioOnError(cause);
+        scenarioOnError(scenarioOf(context), cause);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        skippedMethods = true;
     }
 
     @Override
     public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        skippedMethods = true;
         extensions.forEach(ext -> ext.onDisabled(scenario, reason));
     }
 
     @Override
     public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) {
-        scenarioOnError(throwable);
+        scenarioOnError(scenarioOf(context), throwable);
+    }
+
+    private void beforeEachScenario(ScenarioContext current) {
+        Log.useScenario(current);
+        extensions.forEach(ext -> ext.beforeEach(current));
+        services.forEach(service -> {
+            if (service.isAutoStart() && service.isLazyStart()) {
+                startInBackground(current, service);
+            } else if (service.isAutoStart()) {
+                service.start();
+            }
+        });
+    }
+
+    private void afterEachScenario(ScenarioContext current) {
+        extensions.forEach(ext -> ext.afterEach(current));
+    }
+
+    private boolean isConcurrentMethods() {
+        return scenario.isAnnotationPresent(QuarkusScenario.class)
+                && scenario.getAnnotation(QuarkusScenario.class).concurrentMethods();
+    }
+
+    private ScenarioContext scenarioOf(ExtensionContext context) {
+        ScenarioContext methodScenario = context.getStore(METHOD_NAMESPACE).get(METHOD_SCENARIO, ScenarioContext.class);
+        return methodScenario != null ? methodScenario : scenario;
+    }
+
+    private void launchServices() {
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(services);
+        if (!PARALLEL_STARTUP.getAsBoolean()) {
+            graph.getStartOrder().forEach(this::launchService);
+            return;
+        }
+
+        graph.forEachInStartOrder(this::launchService,
+                FrameworkExecutor.limitedTo(PARALLEL_STARTUP_MAX_THREADS.getAsInteger()));
+    }
+
+    private void closeServices() {
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(services);
+        if (!PARALLEL_TEARDOWN.getAsBoolean()) {
+            graph.forEachInStopOrder(Service::close);
+            return;
+        }
+
+        graph.forEachInStopOrder(Service::close, FrameworkExecutor.limitedTo(PARALLEL_TEARDOWN_MAX_THREADS.getAsInteger()));
     }
 
     private void launchService(Service service) {
@@ -166,6 +279,12 @@ public class QuarkusScenarioBootstrap
 
         Log.info(service, "Initialize service (%s)", service.getDisplayName());
         extensions.forEach(ext -> ext.onServiceLaunch(scenario, service));
+        if (service.isLazyStart()) {
+            Log.debug(service, "Service (%s) is started in background", service.getDisplayName());
+            startInBackground(scenario, service);
+            return;
+        }
+
         try {
             service.start();
         } catch (Throwable throwable) {
@@ -174,11 +293,25 @@ public class QuarkusScenarioBootstrap
         }
     }
 
+    /**
+     * The failures of the services started in background are reported to the scenario as soon as they happen.
+     */
+    private void startInBackground(ScenarioContext current, Service service) {
+        service.startInBackground().exceptionally(throwable -> {
+            scenarioOnError(current, throwable instanceof CompletionException ? throwable.getCause() : throwable);
+            return null;
+        });
+    }
+
     private void scenarioOnError(Throwable throwable) {
+        scenarioOnError(scenario, throwable);
+    }
+
+    private synchronized void scenarioOnError(ScenarioContext current, Throwable throwable) {
         // mark scenario as failed
-        scenario.markScenarioAsFailed();
+        current.markScenarioAsFailed();
         // notify extensions
-        extensions.forEach(ext -> ext.onError(scenario, throwable));
+        extensions.forEach(ext -> ext.onError(current, throwable));
     }
 
     private void initResourceFromField(TestContext context, Field field) {
@@ -217,6 +350,7 @@ public class QuarkusScenarioBootstrap
 
         // Initialize it
         ServiceContext serviceContext = service.register(field.getName(), scenario);
+        serviceContext.put(ServicePool.FINGERPRINT, ServicePool.fingerprint(service, field, resource));
         extensions.forEach(ext -> ext.updateServiceContext(serviceContext));
         service.init(resource);
         services.add(service);
@@ -224,7 +358,7 @@ public class QuarkusScenarioBootstrap
     }
 
     private ManagedResourceBuilder getManagedResourceBuilder(Field field) {
-        AnnotationBinding binding = bindingsRegistry.stream().map(Provider::get).filter(b -> b.isFor(field)).findFirst()
+        AnnotationBinding binding = ScenarioMetadata.bindingOf(field)
                 .orElseThrow(() -> new RuntimeException("Unknown annotation for service"));
 
         try {
@@ -237,11 +371,8 @@ public class QuarkusScenarioBootstrap
     }
 
     private void initLookupService(TestContext context, Field fieldToInject) {
-        Optional<Field> fieldService = ReflectionUtils.findAllFields(context.getRequiredTestClass())
-                .stream()
-                .filter(field -> field.getName().equals(fieldToInject.getName())
-                        && !field.isAnnotationPresent(LookupService.class))
-                .findAny();
+        Optional<Field> fieldService = ScenarioMetadata.of(context.getRequiredTestClass())
+                .getServiceField(fieldToInject.getName());
         if (!fieldService.isPresent()) {
             fail("Could not lookup service with name " + fieldToInject.getName());
         }
@@ -297,6 +428,25 @@ public class QuarkusScenarioBootstrap
         }
     }
 
+    private void logAwaitSummary() {
+        AwaitAccounting.Statistics total = AwaitAccounting.getTotal(scenario.getId());
+        if (total.getWaits() > 0) {
+            Log.info("Waits summary: %s. Longest: %s", total, AwaitAccounting.getStatistics(scenario.getId()).entrySet()
+                    .stream()
+                    .limit(AWAIT_SUMMARY_SITES)
+                    .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private void cacheResultIfScenarioPassed() {
+        Class<?> testClass = scenario.getTestContext().getRequiredTestClass();
+        if (!scenario.isFailed() && resultCacheHash != null && !skippedMethods
+                && ScenarioResultCache.isComplete(testClass, passedMethods)) {
+            ScenarioResultCache.markAsPassed(resultCacheHash, testClass);
+        }
+    }
+
     private static TestContextImpl toTestContext(ExtensionContext ctx) {
         var testNamespace = ExtensionContext.Namespace.create(ScenarioContext.class);
         return new TestContextImpl(ctx.getRequiredTestClass(), ctx.getTags(), ctx.getStore(testNamespace));
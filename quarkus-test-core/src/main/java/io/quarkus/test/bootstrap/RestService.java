@@ -62,6 +62,11 @@ public class RestService extends BaseService<RestService> {
     @Override
     public void start() {
         super.start();
+        if (context.getScenarioContext().isParallelExecution()) {
+            // RestAssured static configuration is shared by all the scenarios: use `given()` instead
+            return;
+        }
+
         var host = getURI(Protocol.HTTP);
         RestAssured.baseURI = host.getRestAssuredStyleUri();
         RestAssured.basePath = BASE_PATH;
@@ -7,6 +7,8 @@ import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.quarkus.test.bootstrap.TestContext.TestContextImpl;
 import io.quarkus.test.bootstrap.TestContext.TestStore;
@@ -14,27 +16,41 @@ import io.quarkus.test.bootstrap.TestContext.TestStore;
 public final class ScenarioContext {
 
     private static final int SCENARIO_ID_MAX_SIZE = 60;
+    private static final AtomicInteger SCENARIO_SEQUENCE = new AtomicInteger();
 
     private final String id;
     private TestContext testContext;
-    private boolean failed;
+    private final AtomicBoolean failed;
     private boolean debug;
+    private boolean parallelExecution;
 
     ScenarioContext(TestContext testContext) {
         this.testContext = testContext;
         this.id = generateScenarioId(testContext);
+        this.failed = new AtomicBoolean();
     }
 
-    private ScenarioContext(TestContext testContext, String id, boolean failed, boolean debug) {
+    private ScenarioContext(TestContext testContext, String id, AtomicBoolean failed, boolean debug,
+            boolean parallelExecution) {
         this.testContext = testContext;
         this.id = id;
         this.failed = failed;
         this.debug = debug;
+        this.parallelExecution = parallelExecution;
     }
 
     public ScenarioContext toClassScenarioContext() {
         // drop test method name
-        return new ScenarioContext(new TestContextImpl(testContext, null), id, failed, debug);
+        return new ScenarioContext(new TestContextImpl(testContext, null), id, failed, debug, parallelExecution);
+    }
+
+    /**
+     * @return a copy of this scenario bound to a test method, so test methods can run concurrently. The copy shares
+     *         the ID and the failed state with this scenario.
+     */
+    ScenarioContext toMethodScenarioContext(TestContext methodTestContext, String testMethodName) {
+        return new ScenarioContext(new TestContextImpl(methodTestContext, testMethodName), id, failed, debug,
+                parallelExecution);
     }
 
     public String getId() {
@@ -42,7 +58,7 @@ public final class ScenarioContext {
     }
 
     public boolean isFailed() {
-        return failed;
+        return failed.get();
     }
 
     public boolean isDebug() {
@@ -53,6 +69,18 @@ public final class ScenarioContext {
         this.debug = debug;
     }
 
+    /**
+     * @return whether scenarios can run concurrently in this JVM, so global state (like RestAssured static
+     *         configuration) must not be modified.
+     */
+    public boolean isParallelExecution() {
+        return parallelExecution;
+    }
+
+    void setParallelExecution(boolean parallelExecution) {
+        this.parallelExecution = parallelExecution;
+    }
+
     public String getRunningTestClassName() {
         return getTestContext().getRequiredTestClass().getSimpleName();
     }
@@ -90,11 +118,13 @@ public final class ScenarioContext {
     }
 
     void markScenarioAsFailed() {
-        failed = true;
+        failed.set(true);
     }
 
     private static String generateScenarioId(TestContext context) {
-        String fullId = context.getRequiredTestClass().getSimpleName() + "-" + System.currentTimeMillis();
-        return fullId.substring(0, Math.min(SCENARIO_ID_MAX_SIZE, fullId.length()));
+        // the suffix makes the ID unique even when several scenarios start at the same time
+        String suffix = "-" + System.currentTimeMillis() + "-" + SCENARIO_SEQUENCE.incrementAndGet();
+        String name = context.getRequiredTestClass().getSimpleName();
+        return name.substring(0, Math.min(SCENARIO_ID_MAX_SIZE - suffix.length(), name.length())) + suffix;
     }
 }
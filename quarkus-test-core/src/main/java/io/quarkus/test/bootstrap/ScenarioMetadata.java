@@ -0,0 +1,78 @@
+package io.quarkus.test.bootstrap;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.utils.ReflectionUtils;
+import io.quarkus.test.utils.ServiceLoaderUtils;
+
+/**
+ * Fields of a scenario class and the binding of every service field, computed once per class and JVM.
+ */
+final class ScenarioMetadata {
+
+    private static final Map<Class<?>, ScenarioMetadata> SCENARIOS = new ConcurrentHashMap<>();
+    private static final Map<List<Object>, Optional<AnnotationBinding>> BINDINGS = new ConcurrentHashMap<>();
+
+    private final List<Field> fields;
+    private final Map<String, Field> serviceFields = new LinkedHashMap<>();
+
+    private ScenarioMetadata(Class<?> testClass) {
+        this.fields = Collections.unmodifiableList(ReflectionUtils.findAllFields(testClass));
+        for (Field field : fields) {
+            if (!field.isAnnotationPresent(LookupService.class)) {
+                serviceFields.putIfAbsent(field.getName(), field);
+            }
+        }
+    }
+
+    static ScenarioMetadata of(Class<?> testClass) {
+        return SCENARIOS.computeIfAbsent(testClass, ScenarioMetadata::new);
+    }
+
+    /**
+     * @return the binding of the field. Bindings are looked up by field type and annotation types.
+     */
+    static Optional<AnnotationBinding> bindingOf(Field field) {
+        List<Object> key = new ArrayList<>();
+        key.add(field.getType());
+        Arrays.stream(field.getAnnotations())
+                .map(Annotation::annotationType)
+                .sorted(Comparator.comparing(Class::getName))
+                .forEach(key::add);
+        return BINDINGS.computeIfAbsent(key, ignored -> ServiceLoaderUtils.loadAll(AnnotationBinding.class).stream()
+                .filter(binding -> binding.isFor(field))
+                .findFirst());
+    }
+
+    /**
+     * @return all the fields of the scenario class, including the inherited ones.
+     */
+    List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the field with the given name that is not a service lookup.
+     */
+    Optional<Field> getServiceField(String name) {
+        return Optional.ofNullable(serviceFields.get(name));
+    }
+
+    List<Field> getServiceFields() {
+        return fields.stream()
+                .filter(field -> Service.class.isAssignableFrom(field.getType()))
+                .filter(field -> !field.isAnnotationPresent(LookupService.class))
+                .collect(Collectors.toList());
+    }
+}
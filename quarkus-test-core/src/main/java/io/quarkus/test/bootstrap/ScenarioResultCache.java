@@ -0,0 +1,174 @@
+package io.quarkus.test.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.services.quarkus.model.QuarkusProperties;
+
+/**
+ * Cache of the scenarios that passed, keyed by the hash of their inputs: the test class, all the application and test
+ * classes and resources, the dependencies in the classpath, the system properties, the declared services (including
+ * forced dependencies and properties) and the Quarkus version. Scenarios whose inputs did not change since all their
+ * test methods passed are skipped. The results are stored in the project folder, so they are never shared between
+ * projects.
+ */
+final class ScenarioResultCache {
+
+    static final PropertyLookup ENABLED = new PropertyLookup("result-cache.enabled", Boolean.FALSE.toString());
+
+    private static final PropertyLookup FOLDER = new PropertyLookup("result-cache.folder",
+            Path.of(".quarkus-test-framework", "result-cache").toString());
+    private static final Path APP_CLASSES = Path.of("target", "classes");
+    private static final Path TEST_CLASSES = Path.of("target", "test-classes");
+    private static final String CLASS_PATH = "java.class.path";
+    /**
+     * Surefire runs the tests using a temporary jar that only references the test classpath, so the classpath is read
+     * from its property instead.
+     */
+    private static final String SUREFIRE_CLASS_PATH = "surefire.test.class.path";
+    /**
+     * System properties that depend on the JVM, the machine or the test run instead of the scenario inputs.
+     */
+    private static final List<String> IGNORED_SYSTEM_PROPERTIES = List.of("java.", "jdk.", "sun.", "os.", "user.",
+            "file.", "line.", "path.", "surefire.", "basedir", "localRepository");
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static String projectHash;
+
+    private ScenarioResultCache() {
+
+    }
+
+    /**
+     * @return the hash of the scenario inputs or empty if any input could not be read.
+     */
+    static Optional<String> hashOf(Class<?> testClass) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            update(digest, QuarkusProperties.getVersion());
+            update(digest, QuarkusProperties.PACKAGE_TYPE.get());
+            update(digest, testClass.getName());
+            ServicePool.fingerprints(testClass).forEach(fingerprint -> update(digest, fingerprint));
+            updateWithSystemProperties(digest);
+            update(digest, getProjectHash());
+            return Optional.of(Hex.encodeHexString(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            Log.warn("Could not compute the inputs hash of %s. Caused by %s", testClass.getName(), ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return true if all the test methods of the class (including the inherited ones) passed. A scenario partially run
+     *         (some methods were filtered, disabled or aborted) is not complete.
+     */
+    static boolean isComplete(Class<?> testClass, Set<Method> passedMethods) {
+        return passedMethods.containsAll(ReflectionSupport.findMethods(testClass,
+                method -> AnnotationSupport.isAnnotated(method, Testable.class), HierarchyTraversalMode.TOP_DOWN));
+    }
+
+    static boolean isPassed(String hash) {
+        return Files.exists(Path.of(FOLDER.get(), hash));
+    }
+
+    static void markAsPassed(String hash, Class<?> testClass) {
+        Path folder = Path.of(FOLDER.get());
+        try {
+            Files.createDirectories(folder);
+            Files.writeString(folder.resolve(hash), testClass.getName());
+        } catch (IOException ex) {
+            Log.warn("Could not store the result of %s. Caused by %s", testClass.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * The project classes, resources and dependencies don't change while the JVM runs, so they are only hashed once.
+     */
+    private static synchronized String getProjectHash() throws IOException, NoSuchAlgorithmException {
+        if (projectHash == null) {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            updateWithFolder(digest, APP_CLASSES);
+            updateWithFolder(digest, TEST_CLASSES);
+            updateWithDependencies(digest);
+            projectHash = Hex.encodeHexString(digest.digest());
+        }
+
+        return projectHash;
+    }
+
+    /**
+     * Hash the system properties that can change the scenario behaviour, like the `ts.*` and `quarkus.*` properties or
+     * the properties selecting the target platform.
+     */
+    private static void updateWithSystemProperties(MessageDigest digest) {
+        new TreeMap<>(System.getProperties()).forEach((key, value) -> {
+            String property = String.valueOf(key);
+            if (IGNORED_SYSTEM_PROPERTIES.stream().noneMatch(property::startsWith)) {
+                update(digest, property);
+                update(digest, String.valueOf(value));
+            }
+        });
+    }
+
+    /**
+     * Hash the file names and content of the folder, so a change in any class or resource used by the scenario (for
+     * example, a helper class or a shared base class in another package) invalidates the cache.
+     */
+    private static void updateWithFolder(MessageDigest digest, Path folder) throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(folder)) {
+            files = stream.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            update(digest, folder.relativize(file).toString());
+            digest.update(Files.readAllBytes(file));
+        }
+    }
+
+    /**
+     * Hash the name, size and last modification of the archives in the classpath, so upgrading or rebuilding a
+     * dependency invalidates the cache without reading all the archives.
+     */
+    private static void updateWithDependencies(MessageDigest digest) throws IOException {
+        String classPath = System.getProperty(SUREFIRE_CLASS_PATH, System.getProperty(CLASS_PATH, ""));
+        for (String entry : classPath.split(File.pathSeparator)) {
+            Path archive = Path.of(entry);
+            if (Files.isRegularFile(archive)) {
+                update(digest, archive.getFileName().toString());
+                update(digest, Long.toString(Files.size(archive)));
+                update(digest, Long.toString(Files.getLastModifiedTime(archive).toMillis()));
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+}
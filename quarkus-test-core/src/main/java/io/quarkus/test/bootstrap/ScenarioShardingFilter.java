@@ -0,0 +1,145 @@
+package io.quarkus.test.bootstrap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.metrics.ScenarioDurations;
+
+/**
+ * Split the discovered test classes into `sharding.total` shards with similar duration, and only keep the classes of the
+ * shard `sharding.index` (starting at 0). The classes are assigned using the durations of the previous executions
+ * (see {@link ScenarioDurations}), from the longest to the shortest, to the shard with the lowest total duration.
+ * Classes with no known duration count as the average duration.
+ *
+ * The classes are split from the ones discovered in the current JVM, so all the shards must discover the same classes.
+ * It's meant for CI shards, where every shard is a separate Maven invocation running the same tests with a different
+ * `sharding.index`. It does not work with several Surefire forks (`forkCount` greater than 1), as every fork only
+ * discovers a subset of the classes: some classes would run in several shards and others in none.
+ */
+public class ScenarioShardingFilter implements PostDiscoveryFilter {
+
+    private static final PropertyLookup SHARDING_TOTAL = new PropertyLookup("sharding.total", "1");
+    private static final PropertyLookup SHARDING_INDEX = new PropertyLookup("sharding.index", "0");
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(1);
+    private static final String NESTED_CLASS_SEPARATOR = "$";
+
+    private TestDescriptor shardedRoot;
+    private Set<String> shardClasses;
+
+    @Override
+    public synchronized FilterResult apply(TestDescriptor descriptor) {
+        int total = SHARDING_TOTAL.getAsInteger();
+        int index = SHARDING_INDEX.getAsInteger();
+        validate(index, total);
+        Optional<String> className = classNameOf(descriptor);
+        if (total <= 1 || className.isEmpty()) {
+            return FilterResult.included("Sharding is not enabled");
+        }
+
+        TestDescriptor root = rootOf(descriptor);
+        if (root != shardedRoot) {
+            List<Set<String>> shards = split(classNamesOf(root), ScenarioDurations.load(), total);
+            shardClasses = shards.get(index);
+            shardedRoot = root;
+            Log.info("Running shard %s of %s with %s test classes", index + 1, total, shardClasses.size());
+        }
+
+        return FilterResult.includedIf(shardClasses.contains(className.get()),
+                () -> "Test class in shard " + index,
+                () -> "Test class in another shard");
+    }
+
+    static void validate(int index, int total) {
+        if (total < 1) {
+            throw new IllegalArgumentException("Invalid sharding configuration: `ts.global.sharding.total` must be "
+                    + "greater than 0, but was " + total);
+        }
+
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("Invalid sharding configuration: `ts.global.sharding.index` must be "
+                    + "between 0 and " + (total - 1) + " (`ts.global.sharding.total` - 1), but was " + index);
+        }
+    }
+
+    /**
+     * Longest processing time first bin packing of the classes into the given number of shards.
+     */
+    static List<Set<String>> split(Collection<String> classNames, Map<String, Duration> durations, int total) {
+        Duration average = durations.values().stream()
+                .reduce(Duration::plus)
+                .map(sum -> sum.dividedBy(durations.size()))
+                .orElse(DEFAULT_DURATION);
+
+        List<Set<String>> shards = new ArrayList<>();
+        List<Duration> loads = new ArrayList<>();
+        for (int index = 0; index < total; index++) {
+            shards.add(new TreeSet<>());
+            loads.add(Duration.ZERO);
+        }
+
+        classNames.stream()
+                .distinct()
+                .sorted(Comparator.<String, Duration> comparing(name -> durations.getOrDefault(name, average))
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .forEach(name -> {
+                    int lightest = 0;
+                    for (int index = 1; index < total; index++) {
+                        if (loads.get(index).compareTo(loads.get(lightest)) < 0) {
+                            lightest = index;
+                        }
+                    }
+
+                    shards.get(lightest).add(name);
+                    loads.set(lightest, loads.get(lightest).plus(durations.getOrDefault(name, average)));
+                });
+
+        return shards;
+    }
+
+    private static Set<String> classNamesOf(TestDescriptor root) {
+        Set<String> classNames = new HashSet<>();
+        root.getDescendants().forEach(descendant -> classNameOf(descendant).ifPresent(classNames::add));
+        return classNames;
+    }
+
+    private static TestDescriptor rootOf(TestDescriptor descriptor) {
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+
+        return root;
+    }
+
+    private static Optional<String> classNameOf(TestDescriptor descriptor) {
+        Optional<TestSource> source = descriptor.getSource();
+        String className = null;
+        if (source.isPresent() && source.get() instanceof ClassSource) {
+            className = ((ClassSource) source.get()).getClassName();
+        } else if (source.isPresent() && source.get() instanceof MethodSource) {
+            className = ((MethodSource) source.get()).getClassName();
+        }
+
+        // nested classes run in the same shard as their enclosing class
+        return Optional.ofNullable(className).map(name -> StringUtils.substringBefore(name, NESTED_CLASS_SEPARATOR));
+    }
+}
@@ -1,9 +1,12 @@
 package io.quarkus.test.bootstrap;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 
@@ -30,12 +33,35 @@ public interface Service extends ExtensionContext.Store.CloseableResource {
 
     List<String> getLogs();
 
+    /**
+     * @return a future completed with the first log line matching the predicate, either already printed or printed
+     *         from now on.
+     */
+    CompletableFuture<String> awaitLog(Predicate<String> predicate);
+
+    /**
+     * @return the duration of every phase of the last start.
+     */
+    default StartupTimings getStartupTimings() {
+        return new StartupTimings();
+    }
+
     ServiceContext register(String serviceName, ScenarioContext context);
 
     void init(ManagedResourceBuilder resource);
 
     void start();
 
+    /**
+     * Start the service without waiting for it. By default, it starts the service synchronously.
+     *
+     * @return the pending start, completed exceptionally if the service failed to start.
+     */
+    default CompletableFuture<Void> startInBackground() {
+        start();
+        return CompletableFuture.completedFuture(null);
+    }
+
     void stop();
 
     @Override
@@ -51,6 +77,17 @@ public interface Service extends ExtensionContext.Store.CloseableResource {
         return true;
     }
 
+    default boolean isLazyStart() {
+        return false;
+    }
+
+    /**
+     * @return the services that need to be started before this service.
+     */
+    default List<Service> getDependencies() {
+        return Collections.emptyList();
+    }
+
     default void validate(Field field) {
 
     }
@@ -10,6 +10,7 @@ public final class ServiceContext {
     private final ScenarioContext scenarioContext;
     private final Path serviceFolder;
     private final Map<String, Object> store = new HashMap<>();
+    private final StartupTimings startupTimings = new StartupTimings();
 
     ServiceContext(Service owner, ScenarioContext scenarioContext) {
         this.owner = owner;
@@ -45,6 +46,10 @@ public final class ServiceContext {
         return serviceFolder;
     }
 
+    public StartupTimings getStartupTimings() {
+        return startupTimings;
+    }
+
     public void put(String key, Object value) {
         store.put(key, value);
     }
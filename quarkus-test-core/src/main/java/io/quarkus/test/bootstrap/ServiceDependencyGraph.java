@@ -0,0 +1,165 @@
+package io.quarkus.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Dependency graph of the services of a scenario built from {@link Service#getDependencies()}.
+ * Dependencies that are not part of the scenario are ignored.
+ */
+final class ServiceDependencyGraph {
+
+    private final List<Service> services;
+
+    ServiceDependencyGraph(List<Service> services) {
+        this.services = new ArrayList<>(services);
+    }
+
+    /**
+     * @return the services sorted so every service comes after its dependencies. Services with no dependency
+     *         between them keep the declaration order.
+     */
+    List<Service> getStartOrder() {
+        Set<Service> sorted = new LinkedHashSet<>();
+        for (Service service : services) {
+            visit(service, sorted, new LinkedHashSet<>());
+        }
+
+        return new ArrayList<>(sorted);
+    }
+
+    /**
+     * @return the services sorted so every service comes before its dependencies.
+     */
+    List<Service> getStopOrder() {
+        List<Service> order = getStartOrder();
+        Collections.reverse(order);
+        return order;
+    }
+
+    /**
+     * Run the action for every service using the executor. The action of a service only runs once the actions of all
+     * its dependencies completed successfully. This method waits until all the actions have finished.
+     *
+     * @throws RuntimeException the first failure in start order.
+     */
+    void forEachInStartOrder(Consumer<Service> action, Executor executor) {
+        forEach(getStartOrder(), this::dependenciesOf, true, action, executor);
+    }
+
+    /**
+     * Run the action for every service using the executor. The action of a service only runs once the actions of all
+     * the services that depend on it have finished, even if they failed. This method waits until all the actions have
+     * finished.
+     *
+     * @throws RuntimeException the first failure in stop order.
+     */
+    void forEachInStopOrder(Consumer<Service> action, Executor executor) {
+        forEach(getStopOrder(), this::dependentsOf, false, action, executor);
+    }
+
+    /**
+     * Run the action for every service in stop order in the current thread. A failing action does not prevent the
+     * actions of the rest of services from running.
+     *
+     * @throws RuntimeException the first failure in stop order, with the rest of failures as suppressed exceptions.
+     */
+    void forEachInStopOrder(Consumer<Service> action) {
+        RuntimeException failure = null;
+        for (Service service : getStopOrder()) {
+            try {
+                action.accept(service);
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void forEach(List<Service> order, Function<Service, List<Service>> predecessorsOf, boolean requireSuccess,
+            Consumer<Service> action, Executor executor) {
+        Map<Service, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (Service service : order) {
+            CompletableFuture<Void> predecessors = CompletableFuture.allOf(predecessorsOf.apply(service).stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new));
+            if (!requireSuccess) {
+                predecessors = predecessors.handle((ignored, error) -> null);
+            }
+
+            futures.put(service, predecessors.thenRunAsync(() -> action.accept(service), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            throw firstFailure(futures.values());
+        }
+    }
+
+    private void visit(Service service, Set<Service> sorted, Set<Service> visiting) {
+        if (sorted.contains(service)) {
+            return;
+        }
+
+        if (!visiting.add(service)) {
+            throw new IllegalStateException("Cyclic dependency between services: " + visiting.stream()
+                    .map(Service::getName)
+                    .collect(Collectors.joining(" -> ")) + " -> " + service.getName());
+        }
+
+        for (Service dependency : dependenciesOf(service)) {
+            visit(dependency, sorted, visiting);
+        }
+
+        visiting.remove(service);
+        sorted.add(service);
+    }
+
+    private List<Service> dependenciesOf(Service service) {
+        Set<Service> known = new HashSet<>(services);
+        return service.getDependencies().stream().filter(known::contains).collect(Collectors.toList());
+    }
+
+    private List<Service> dependentsOf(Service service) {
+        return services.stream().filter(other -> dependenciesOf(other).contains(service)).collect(Collectors.toList());
+    }
+
+    private static RuntimeException firstFailure(Iterable<CompletableFuture<Void>> futures) {
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else if (cause instanceof RuntimeException) {
+                    return (RuntimeException) cause;
+                }
+
+                return new RuntimeException(cause);
+            }
+        }
+
+        return new IllegalStateException("No failed service found");
+    }
+}
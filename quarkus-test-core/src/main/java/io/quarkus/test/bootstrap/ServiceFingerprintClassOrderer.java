@@ -0,0 +1,61 @@
+package io.quarkus.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+/**
+ * Order the scenarios so the ones declaring the same services run one after the other, and the service pool can reuse
+ * the running services (and the built artifacts) instead of starting them again. Enable it using:
+ *
+ * `junit.jupiter.testclass.order.default=io.quarkus.test.bootstrap.ServiceFingerprintClassOrderer`
+ */
+public class ServiceFingerprintClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        Map<ClassDescriptor, Set<String>> fingerprints = new HashMap<>();
+        context.getClassDescriptors().forEach(descriptor -> fingerprints.put(descriptor,
+                ServicePool.fingerprints(descriptor.getTestClass())));
+
+        List<ClassDescriptor> order = groupBySharedFingerprints(new ArrayList<>(context.getClassDescriptors()),
+                fingerprints::get);
+        context.getClassDescriptors().sort(Comparator.comparingInt(order::indexOf));
+    }
+
+    /**
+     * Starting by the first element, pick the next one sharing the most fingerprints with the previous one. Elements
+     * sharing the same number of fingerprints keep the original order.
+     */
+    static <T> List<T> groupBySharedFingerprints(List<T> elements, Function<T, Set<String>> fingerprintsOf) {
+        List<T> pending = new LinkedList<>(elements);
+        List<T> sorted = new ArrayList<>(elements.size());
+        Set<String> previous = Set.of();
+        while (!pending.isEmpty()) {
+            T next = pending.get(0);
+            long maxShared = -1;
+            for (T candidate : pending) {
+                long shared = fingerprintsOf.apply(candidate).stream().filter(previous::contains).count();
+                if (shared > maxShared) {
+                    maxShared = shared;
+                    next = candidate;
+                }
+            }
+
+            pending.remove(next);
+            sorted.add(next);
+            previous = fingerprintsOf.apply(next);
+        }
+
+        return sorted;
+    }
+}
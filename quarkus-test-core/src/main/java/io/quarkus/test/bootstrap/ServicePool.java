@@ -0,0 +1,196 @@
+package io.quarkus.test.bootstrap;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.CleanupQueue;
+
+/**
+ * JVM-wide pool of running managed resources, so scenarios declaring identical services can reuse them instead of
+ * building and starting them again. Only idle resources (released by their last scenario) are kept in the pool and the
+ * least recently used ones are stopped when there are more than `pool.max-resident`.
+ */
+final class ServicePool {
+
+    static final String POOL_ENABLED = "pool.enabled";
+    static final String FINGERPRINT = "pool.fingerprint";
+
+    private static final String DEFAULT_SERVICE = "default";
+    private static final PropertyLookup MAX_RESIDENT = new PropertyLookup("pool.max-resident", "3");
+
+    private static final Map<String, PooledResource> IDLE = new LinkedHashMap<>();
+
+    private static boolean shutdownHookRegistered;
+
+    private ServicePool() {
+
+    }
+
+    /**
+     * @return the fingerprint of the service, made of the service and managed resource builder types, the annotations of
+     *         the field and the service properties.
+     */
+    static String fingerprint(Service service, Field field, ManagedResourceBuilder builder) {
+        return fingerprint(service, field, builder.getClass());
+    }
+
+    /**
+     * @return the fingerprint of the service using the given type to identify how the managed resource is built.
+     */
+    static String fingerprint(Service service, Field field, Class<?> resourceType) {
+        String annotations = Arrays.stream(field.getAnnotations())
+                .sorted(Comparator.comparing(annotation -> annotation.annotationType().getName()))
+                .map(Annotation::toString)
+                .collect(Collectors.joining(","));
+
+        return String.join("|", service.getClass().getName(), field.getName(), resourceType.getName(),
+                annotations, new TreeMap<>(service.getProperties()).toString());
+    }
+
+    /**
+     * @return the fingerprints of the services declared by the test class without starting them. The binding type
+     *         identifies how the managed resource is built, as the managed resource builders are not created.
+     */
+    static Set<String> fingerprints(Class<?> testClass) {
+        Set<String> fingerprints = new TreeSet<>();
+        try {
+            for (Field field : ScenarioMetadata.of(testClass).getServiceFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fingerprints.add(fingerprint((Service) field.get(null), field, bindingTypeOf(field)));
+                }
+            }
+        } catch (Throwable throwable) {
+            Log.debug("Could not compute the service fingerprints of %s. Caused by %s", testClass.getName(),
+                    throwable.getMessage());
+        }
+
+        if (fingerprints.isEmpty()) {
+            fingerprints.add(DEFAULT_SERVICE);
+        }
+
+        return fingerprints;
+    }
+
+    /**
+     * Take an idle running resource out of the pool and bind it to the context of the service that reuses it. The
+     * folder of the service that released it is not needed anymore.
+     */
+    static synchronized Optional<PooledResource> acquire(String fingerprint, ServiceContext context) {
+        PooledResource pooled = IDLE.remove(fingerprint);
+        if (pooled == null) {
+            return Optional.empty();
+        }
+
+        if (!pooled.resource.isRunning()) {
+            pooled.stop();
+            return Optional.empty();
+        }
+
+        try {
+            pooled.resource.rebind(context);
+        } catch (Exception ex) {
+            Log.warn("Could not reuse pooled resource (%s). Caused by %s", pooled.resource.getDisplayName(),
+                    ex.getMessage());
+            pooled.stop();
+            return Optional.empty();
+        }
+
+        pooled.deleteFolder();
+        return Optional.of(pooled);
+    }
+
+    /**
+     * Give back a running resource to the pool. The least recently released resources are stopped if the pool is full.
+     */
+    static synchronized void release(String fingerprint, PooledResource pooled) {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ServicePool::stopAll, "service-pool-shutdown"));
+            shutdownHookRegistered = true;
+        }
+
+        PooledResource previous = IDLE.remove(fingerprint);
+        if (previous != null) {
+            previous.stop();
+        }
+
+        IDLE.put(fingerprint, pooled);
+        int maxResident = MAX_RESIDENT.getAsInteger();
+        Iterator<PooledResource> eldest = IDLE.values().iterator();
+        while (IDLE.size() > maxResident && eldest.hasNext()) {
+            PooledResource evicted = eldest.next();
+            eldest.remove();
+            evicted.stop();
+        }
+    }
+
+    private static Class<?> bindingTypeOf(Field field) {
+        return ScenarioMetadata.bindingOf(field).<Class<?>> map(Object::getClass).orElse(Object.class);
+    }
+
+    private static synchronized void stopAll() {
+        IDLE.values().forEach(PooledResource::stopOnExit);
+        IDLE.clear();
+    }
+
+    static final class PooledResource {
+        private final ManagedResourceBuilder builder;
+        private final ManagedResource resource;
+        private final Path serviceFolder;
+        private final boolean deleteFolder;
+
+        PooledResource(ManagedResourceBuilder builder, ManagedResource resource, Path serviceFolder, boolean deleteFolder) {
+            this.builder = builder;
+            this.resource = resource;
+            this.serviceFolder = serviceFolder;
+            this.deleteFolder = deleteFolder;
+        }
+
+        ManagedResourceBuilder getBuilder() {
+            return builder;
+        }
+
+        ManagedResource getResource() {
+            return resource;
+        }
+
+        private void stop() {
+            Log.debug("Stopping pooled resource (%s)", resource.getDisplayName());
+            try {
+                resource.stop();
+            } catch (Exception ex) {
+                Log.warn("Could not stop pooled resource. Caused by %s", ex.getMessage());
+            }
+
+            deleteFolder();
+        }
+
+        private void deleteFolder() {
+            if (deleteFolder) {
+                CleanupQueue.deletePath(serviceFolder);
+            }
+        }
+
+        private void stopOnExit() {
+            try {
+                resource.stop();
+            } catch (Exception ignored) {
+                // the JVM is exiting
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.test.bootstrap;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Duration of every phase of the last service start.
+ */
+public final class StartupTimings {
+
+    private final Map<Phase, Duration> durations = Collections.synchronizedMap(new EnumMap<>(Phase.class));
+
+    public void record(Phase phase, Duration duration) {
+        durations.put(phase, duration);
+    }
+
+    public void record(Phase phase, Runnable action) {
+        record(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T record(Phase phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    public Optional<Duration> get(Phase phase) {
+        return Optional.ofNullable(durations.get(phase));
+    }
+
+    public Map<Phase, Duration> asMap() {
+        synchronized (durations) {
+            return Collections.unmodifiableMap(new EnumMap<>(durations));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        asMap().forEach((phase, duration) -> sb.append(sb.length() > 0 ? ", " : "")
+                .append(phase.getCode()).append("=").append(duration.toMillis()).append("ms"));
+        return sb.toString();
+    }
+
+    public enum Phase {
+        /**
+         * Build or augmentation of the artifact.
+         */
+        BUILD("build"),
+        /**
+         * Copy of the application resources to the service folder.
+         */
+        RESOURCES_COPY("resources_copy"),
+        /**
+         * Spawn of the process or container.
+         */
+        SPAWN("spawn"),
+        /**
+         * From the spawn to the first log line.
+         */
+        FIRST_LOG_LINE("first_log_line"),
+        /**
+         * From the spawn to the service being ready.
+         */
+        READINESS("readiness"),
+        /**
+         * Actions executed after the service is ready.
+         */
+        POST_START("post_start");
+
+        private final String code;
+
+        Phase(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
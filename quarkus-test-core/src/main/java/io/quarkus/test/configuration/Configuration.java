@@ -7,7 +7,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -20,10 +23,13 @@ public final class Configuration {
     private static final String PREFIX_TEMPLATE = "ts.%s.";
     private static final String GLOBAL_SCOPE = "global";
 
+    private static volatile Layers layers = new Layers();
+
     private final Map<String, String> properties;
+    private final Map<String, Optional<Object>> parsedValues = new ConcurrentHashMap<>();
 
     private Configuration(Map<String, String> properties) {
-        this.properties = properties;
+        this.properties = Collections.unmodifiableMap(properties);
     }
 
     public List<String> getAsList(String property) {
@@ -57,6 +63,36 @@ public final class Configuration {
         return Double.parseDouble(value);
     }
 
+    public Integer getAsInteger(String property, int defaultValue) {
+        String value = get(property);
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Parse the property only the first time it is requested. The parser must be the same for every call using the
+     * same property.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getAs(String property, Function<String, T> parser) {
+        Optional<Object> parsed = parsedValues.get(property);
+        if (parsed != null) {
+            return (Optional<T>) parsed;
+        }
+
+        return (Optional<T>) parsedValues.computeIfAbsent(property, key -> {
+            String value = get(key);
+            if (StringUtils.isEmpty(value)) {
+                return Optional.empty();
+            }
+
+            return Optional.ofNullable(parser.apply(value));
+        });
+    }
+
     public String get(String property) {
         return properties.get(property);
     }
@@ -73,37 +109,34 @@ public final class Configuration {
         return StringUtils.equalsIgnoreCase(properties.get(property), expected);
     }
 
+    /**
+     * @return the global configuration. It is loaded once per JVM (see {@link #refresh()}).
+     */
     public static Configuration load() {
-        Map<String, String> properties = new HashMap<>();
-        // Lowest priority: properties from global.properties and scope `global`
-        properties.putAll(loadPropertiesFrom(GLOBAL_PROPERTIES, GLOBAL_SCOPE));
-        // Then, properties from system properties and scope `global`
-        properties.putAll(loadPropertiesFromSystemProperties(GLOBAL_SCOPE));
-        // Then, properties from test.properties and scope as global
-        properties.putAll(loadPropertiesFrom(TEST_PROPERTIES, GLOBAL_SCOPE));
-
-        return new Configuration(properties);
+        return layers.global;
     }
 
+    /**
+     * @return the configuration of the service. It is loaded once per JVM and service name (see {@link #refresh()}).
+     */
     public static Configuration load(String serviceName) {
-        Configuration configuration = load();
-        // Then, properties from test.properties and scope as service name
-        configuration.properties.putAll(loadPropertiesFrom(TEST_PROPERTIES, serviceName));
-        // Then, highest priority: properties from system properties and scope as service name
-        configuration.properties.putAll(loadPropertiesFromSystemProperties(serviceName));
-
-        return configuration;
+        Layers current = layers;
+        return current.services.computeIfAbsent(serviceName, current::loadService);
     }
 
-    private static Map<String, String> loadPropertiesFromSystemProperties(String scope) {
-        return loadPropertiesFrom(System.getProperties(), scope);
+    /**
+     * Snapshot again the system properties, so the properties set after the configuration was loaded are used. The
+     * configurations already loaded by the services are not updated.
+     */
+    public static void refresh() {
+        layers = new Layers();
     }
 
-    private static Map<String, String> loadPropertiesFrom(String propertiesFile, String scope) {
+    private static Map<String, String> loadPropertiesFrom(String propertiesFile) {
         try (InputStream input = Configuration.class.getClassLoader().getResourceAsStream(propertiesFile)) {
             Properties prop = new Properties();
             prop.load(input);
-            return loadPropertiesFrom(prop, scope);
+            return toMap(prop);
         } catch (Exception ignored) {
             // There is no properties file: this is not mandatory.
         }
@@ -111,16 +144,58 @@ public final class Configuration {
         return Collections.emptyMap();
     }
 
-    private static Map<String, String> loadPropertiesFrom(Properties prop, String scope) {
+    private static Map<String, String> toMap(Properties prop) {
+        Map<String, String> properties = new HashMap<>();
+        for (String key : prop.stringPropertyNames()) {
+            properties.put(key, prop.getProperty(key));
+        }
+
+        return properties;
+    }
+
+    private static Map<String, String> withScope(Map<String, String> source, String scope) {
         Map<String, String> properties = new HashMap<>();
         String prefix = String.format(PREFIX_TEMPLATE, scope);
-        for (Entry<Object, Object> entry : prop.entrySet()) {
-            String key = (String) entry.getKey();
+        for (Entry<String, String> entry : source.entrySet()) {
+            String key = entry.getKey();
             if (StringUtils.startsWith(key, prefix)) {
-                properties.put(key.replace(prefix, StringUtils.EMPTY), (String) entry.getValue());
+                properties.put(key.replace(prefix, StringUtils.EMPTY), entry.getValue());
             }
         }
 
         return properties;
     }
+
+    /**
+     * Properties files are read once per JVM, system properties are snapshotted by every instance.
+     */
+    private static final class Layers {
+
+        private static final Map<String, String> GLOBAL_FILE = loadPropertiesFrom(GLOBAL_PROPERTIES);
+        private static final Map<String, String> TEST_FILE = loadPropertiesFrom(TEST_PROPERTIES);
+
+        private final Map<String, String> systemProperties = toMap(System.getProperties());
+        private final Map<String, Configuration> services = new ConcurrentHashMap<>();
+        private final Configuration global;
+
+        private Layers() {
+            Map<String, String> properties = new HashMap<>();
+            // Lowest priority: properties from global.properties and scope `global`
+            properties.putAll(withScope(GLOBAL_FILE, GLOBAL_SCOPE));
+            // Then, properties from system properties and scope `global`
+            properties.putAll(withScope(systemProperties, GLOBAL_SCOPE));
+            // Then, properties from test.properties and scope as global
+            properties.putAll(withScope(TEST_FILE, GLOBAL_SCOPE));
+            global = new Configuration(properties);
+        }
+
+        private Configuration loadService(String serviceName) {
+            Map<String, String> properties = new HashMap<>(global.properties);
+            // Then, properties from test.properties and scope as service name
+            properties.putAll(withScope(TEST_FILE, serviceName));
+            // Then, highest priority: properties from system properties and scope as service name
+            properties.putAll(withScope(systemProperties, serviceName));
+            return new Configuration(properties);
+        }
+    }
 }
@@ -11,8 +11,6 @@ import io.quarkus.test.bootstrap.ServiceContext;
 
 public class PropertyLookup {
 
-    private static final Configuration GLOBAL = Configuration.load();
-
     private final String propertyKey;
     private final String defaultValue;
 
@@ -50,7 +48,7 @@ public class PropertyLookup {
 
     public String get() {
         // Try first using the Configuration API
-        String value = GLOBAL.get(propertyKey);
+        String value = Configuration.load().get(propertyKey);
         if (StringUtils.isNotBlank(value)) {
             return value;
         }
@@ -0,0 +1,117 @@
+package io.quarkus.test.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Find all the occurrences of a set of literals in a text with a single pass over the text.
+ */
+final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    AhoCorasickAutomaton(List<String> literals) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> matches = new ArrayList<>();
+        children.add(new TreeMap<>());
+        matches.add(new ArrayList<>());
+        for (int literal = 0; literal < literals.size(); literal++) {
+            int state = ROOT;
+            for (char current : literals.get(literal).toCharArray()) {
+                Integer next = children.get(state).get(current);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    matches.add(new ArrayList<>());
+                    children.get(state).put(current, next);
+                }
+
+                state = next;
+            }
+
+            matches.get(state).add(literal);
+        }
+
+        int states = children.size();
+        keys = new char[states][];
+        targets = new int[states][];
+        for (int state = 0; state < states; state++) {
+            Map<Character, Integer> transitions = children.get(state);
+            keys[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int position = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                keys[state][position] = transition.getKey();
+                targets[state][position] = transition.getValue();
+                position++;
+            }
+        }
+
+        // breadth first, so the failure of the parent is known when computing the failure of the child
+        failures = new int[states];
+        Queue<Integer> pending = new ArrayDeque<>();
+        Arrays.stream(targets[ROOT]).forEach(pending::add);
+        while (!pending.isEmpty()) {
+            int state = pending.poll();
+            for (int position = 0; position < keys[state].length; position++) {
+                char current = keys[state][position];
+                int child = targets[state][position];
+                int failure = failures[state];
+                while (failure != ROOT && next(failure, current) < 0) {
+                    failure = failures[failure];
+                }
+
+                int next = next(failure, current);
+                failures[child] = next >= 0 ? next : ROOT;
+                matches.get(child).addAll(matches.get(failures[child]));
+                pending.add(child);
+            }
+        }
+
+        outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            outputs[state] = matches.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Notify the index of the literals found in the text. A literal found several times is notified several times.
+     */
+    void search(CharSequence text, IntConsumer onMatch) {
+        notify(ROOT, onMatch);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            int next = next(state, current);
+            while (next < 0 && state != ROOT) {
+                state = failures[state];
+                next = next(state, current);
+            }
+
+            state = next >= 0 ? next : ROOT;
+            notify(state, onMatch);
+        }
+    }
+
+    private void notify(int state, IntConsumer onMatch) {
+        for (int literal : outputs[state]) {
+            onMatch.accept(literal);
+        }
+    }
+
+    private int next(int state, char current) {
+        int position = Arrays.binarySearch(keys[state], current);
+        return position >= 0 ? targets[state][position] : -1;
+    }
+}
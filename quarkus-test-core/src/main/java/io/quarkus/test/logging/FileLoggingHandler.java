@@ -1,39 +1,61 @@
 package io.quarkus.test.logging;
 
+import static org.junit.jupiter.api.Assertions.fail;
+
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.List;
 
-import io.quarkus.test.utils.FileUtils;
-
 public class FileLoggingHandler extends LoggingHandler {
 
     private final File file;
-    private String printedContent;
+    private final FileTailer tailer;
 
     public FileLoggingHandler(File input) {
         this.file = input;
+        this.tailer = new FileTailer(input.toPath());
+    }
+
+    @Override
+    public void stopWatching() {
+        try {
+            tailer.readRemaining(this::onLine);
+        } catch (IOException e) {
+            Log.warn("Exception reading file log file", e);
+        }
+
+        super.stopWatching();
     }
 
     @Override
     protected synchronized void handle() {
-        if (file.exists()) {
-            String newContent = FileUtils.loadFile(file);
-            onStringDifference(newContent, printedContent);
-            printedContent = newContent;
+        try {
+            tailer.readNewLines(this::onLine);
+        } catch (IOException e) {
+            fail("Could not read file " + file + " . Caused by " + e.getMessage());
         }
     }
 
+    /**
+     * The file is still there when the process stopped, so its logs are kept too.
+     */
+    @Override
+    protected boolean isLogKeptAfterStop() {
+        return true;
+    }
+
+    /**
+     * The lines appended since the last check are read first, so the logs are up to date without reading the whole
+     * file again.
+     */
     @Override
     public List<String> logs() {
         try {
-            return Files.readAllLines(file.toPath(), Charset.defaultCharset());
+            tailer.readNewLines(this::onLine);
         } catch (IOException e) {
             Log.warn("Exception reading file log file", e);
-            // Fallback to default implementation:
-            return super.logs();
         }
+
+        return super.logs();
     }
 }
@@ -0,0 +1,97 @@
+package io.quarkus.test.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Read the lines appended to a file since the previous read. A trailing line without line break is kept until it is
+ * completed. When the file is truncated or replaced by a new file (rotation), it is read again from the beginning.
+ */
+final class FileTailer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Path file;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+
+    private long offset;
+    private Object fileKey;
+
+    FileTailer(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Notify the complete lines appended since the previous call. Empty lines are ignored.
+     */
+    synchronized void readNewLines(Consumer<String> onLine) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (attributes.size() < offset || !Objects.equals(fileKey, attributes.fileKey())) {
+            offset = 0;
+            partialLine.reset();
+            fileKey = attributes.fileKey();
+        }
+
+        if (attributes.size() == offset) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(offset);
+            int read;
+            while ((read = channel.read(buffer)) > 0) {
+                offset += read;
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte current = buffer.get();
+                    if (current == LINE_FEED) {
+                        notifyPartialLine(onLine);
+                    } else {
+                        partialLine.write(current);
+                    }
+                }
+
+                buffer.clear();
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Notify the trailing line even if it has no line break yet, for example when the file is not written anymore.
+     */
+    synchronized void readRemaining(Consumer<String> onLine) throws IOException {
+        readNewLines(onLine);
+        notifyPartialLine(onLine);
+    }
+
+    private void notifyPartialLine(Consumer<String> onLine) {
+        byte[] bytes = partialLine.toByteArray();
+        partialLine.reset();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == CARRIAGE_RETURN) {
+            length--;
+        }
+
+        if (length > 0) {
+            onLine.accept(new String(bytes, 0, length, StandardCharsets.UTF_8));
+        }
+    }
+}
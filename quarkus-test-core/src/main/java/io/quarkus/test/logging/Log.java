@@ -6,13 +6,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import org.jboss.logmanager.formatters.ColorPatternFormatter;
@@ -52,7 +54,12 @@ public final class Log {
     private static final Random RND = new Random();
     private static final Logger LOG = Logger.getLogger(Log.class.getName());
 
-    private static final Map<String, String> SERVICE_COLOR_MAPPING = new HashMap<>();
+    private static final Map<String, String> SERVICE_COLOR_MAPPING = new ConcurrentHashMap<>();
+    private static final Map<String, Logger> SCENARIO_LOGGERS = new ConcurrentHashMap<>();
+    private static final Map<String, FileHandler> SCENARIO_FILE_HANDLERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> CURRENT_SCENARIO = new ThreadLocal<>();
+
+    private static boolean configured;
 
     private Log() {
 
@@ -90,27 +97,38 @@ public final class Log {
         log(NO_SERVICE, Level.SEVERE, msg, args);
     }
 
-    public static void configure(ScenarioContext scenario) {
-        // Configure Log Manager
-        try (InputStream in = QuarkusScenarioBootstrap.class.getResourceAsStream("/logging.properties")) {
-            LogManager.getLogManager().readConfiguration(in);
-        } catch (IOException e) {
-            // ignore
-        }
-
+    /**
+     * Configure the logging for a scenario. Every scenario has its own log file that only contains the logs of the
+     * scenario, so scenarios can run concurrently.
+     */
+    public static synchronized void configure(ScenarioContext scenario) {
         String logPattern = LOG_FORMAT.get();
         Level level = Level.parse(LOG_LEVEL.get());
-
-        // Configure logger handlers
         Logger logger = LogManager.getLogManager().getLogger("");
-        logger.setLevel(level);
+        if (!configured) {
+            // Configure Log Manager
+            try (InputStream in = QuarkusScenarioBootstrap.class.getResourceAsStream("/logging.properties")) {
+                LogManager.getLogManager().readConfiguration(in);
+            } catch (IOException e) {
+                // ignore
+            }
+
+            // Configure logger handlers
+            logger = LogManager.getLogManager().getLogger("");
+            logger.setLevel(level);
+
+            // - Console
+            ConsoleHandler console = new ConsoleHandler(
+                    ConsoleHandler.Target.SYSTEM_OUT,
+                    NOCOLOR ? new PatternFormatter(logPattern) : new ColorPatternFormatter(logPattern));
+            console.setLevel(level);
+            logger.addHandler(console);
+            configured = true;
+        }
 
-        // - Console
-        ConsoleHandler console = new ConsoleHandler(
-                ConsoleHandler.Target.SYSTEM_OUT,
-                NOCOLOR ? new PatternFormatter(logPattern) : new ColorPatternFormatter(logPattern));
-        console.setLevel(level);
-        logger.addHandler(console);
+        String scenarioId = scenario.getId();
+        SCENARIO_LOGGERS.put(scenarioId, Logger.getLogger(LOG.getName() + "." + scenarioId));
+        useScenario(scenario);
 
         // - File
         try {
@@ -118,12 +136,50 @@ public final class Log {
                     new PatternFormatter(logPattern),
                     scenario.getLogFile().toFile());
             file.setLevel(level);
+            file.setFilter(logRecord -> isRecordOfScenario(logRecord, scenarioId));
             logger.addHandler(file);
+            SCENARIO_FILE_HANDLERS.put(scenarioId, file);
         } catch (Exception ex) {
             Log.warn("Could not configure file handler. Caused by " + ex);
         }
     }
 
+    /**
+     * Attribute the logs of the current thread that are not bound to any service to the scenario.
+     */
+    public static void useScenario(ScenarioContext scenario) {
+        CURRENT_SCENARIO.set(scenario.getId());
+    }
+
+    /**
+     * @return the scenario of the current thread, or the only running scenario. Null if it's unknown.
+     */
+    public static String getCurrentScenarioId() {
+        String scenarioId = CURRENT_SCENARIO.get();
+        if (scenarioId == null && SCENARIO_LOGGERS.size() == 1) {
+            scenarioId = SCENARIO_LOGGERS.keySet().iterator().next();
+        }
+
+        return scenarioId;
+    }
+
+    /**
+     * Release the logging resources of the scenario.
+     */
+    public static synchronized void close(ScenarioContext scenario) {
+        String scenarioId = scenario.getId();
+        FileHandler file = SCENARIO_FILE_HANDLERS.remove(scenarioId);
+        if (file != null) {
+            LogManager.getLogManager().getLogger("").removeHandler(file);
+            file.close();
+        }
+
+        SCENARIO_LOGGERS.remove(scenarioId);
+        if (scenarioId.equals(CURRENT_SCENARIO.get())) {
+            CURRENT_SCENARIO.remove();
+        }
+    }
+
     private static void log(Service service, Level level, String msg, Object... args) {
         if (isServiceLogLevelAllowed(service, level)) {
             String textColor = findColorForText(level, service);
@@ -131,26 +187,52 @@ public final class Log {
             if (args != null && args.length > 0) {
                 logMessage = String.format(msg, args);
             }
+            Logger logger = findLogger(service);
             if (NOCOLOR) {
-                LOG.log(level, inBrackets(service) + logMessage);
+                logger.log(level, inBrackets(service) + logMessage);
             } else {
-                LOG.log(level, textColor + inBrackets(service) + logMessage + COLOR_RESET);
+                logger.log(level, textColor + inBrackets(service) + logMessage + COLOR_RESET);
             }
         }
     }
 
+    private static Logger findLogger(Service service) {
+        String scenarioId = service != null ? service.getScenarioId() : CURRENT_SCENARIO.get();
+        if (scenarioId == null) {
+            return LOG;
+        }
+
+        return SCENARIO_LOGGERS.getOrDefault(scenarioId, LOG);
+    }
+
+    private static boolean isRecordOfScenario(LogRecord logRecord, String scenarioId) {
+        String loggerName = logRecord.getLoggerName();
+        if (loggerName != null && loggerName.startsWith(LOG.getName() + ".")) {
+            // logs of a scenario
+            return loggerName.equals(LOG.getName() + "." + scenarioId);
+        }
+
+        // logs not bound to any scenario: use the scenario of the current thread or the only running scenario
+        String currentScenarioId = CURRENT_SCENARIO.get();
+        if (currentScenarioId != null) {
+            return currentScenarioId.equals(scenarioId);
+        }
+
+        return SCENARIO_LOGGERS.size() == 1 && SCENARIO_LOGGERS.containsKey(scenarioId);
+    }
+
     private static boolean isServiceLogLevelAllowed(Service service, Level level) {
         boolean enabled = true;
         if (Objects.nonNull(service) && Objects.nonNull(service.getConfiguration())) {
-            String serviceLogLevel = service.getConfiguration().getOrDefault(LOG_LEVEL_NAME, EMPTY);
-            if (!serviceLogLevel.isEmpty()) {
-                enabled = Level.parse(serviceLogLevel).intValue() <= level.intValue();
+            Optional<Level> serviceLogLevel = service.getConfiguration().getAs(LOG_LEVEL_NAME, Level::parse);
+            if (serviceLogLevel.isPresent()) {
+                enabled = serviceLogLevel.get().intValue() <= level.intValue();
             }
         }
         return enabled;
     }
 
-    private static synchronized String findColorForText(Level level, Service service) {
+    private static String findColorForText(Level level, Service service) {
         String textColor = findColorForService(service);
         if (level == Level.SEVERE) {
             textColor = COLOR_SEVERE;
@@ -161,28 +243,29 @@ public final class Log {
         return textColor;
     }
 
-    private static synchronized String findColorForService(Service service) {
+    private static String findColorForService(Service service) {
         if (service == null) {
             return COLOR_DEFAULT;
         }
 
-        String color = SERVICE_COLOR_MAPPING.get(service.getName());
-        if (color == null) {
-            if (UNUSED_SERVICE_COLORS.isEmpty()) {
-                // reset if no more available service colors
-                UNUSED_SERVICE_COLORS.addAll(ALL_SERVICE_COLORS);
-            }
+        return SERVICE_COLOR_MAPPING.computeIfAbsent(service.getName(), name -> nextServiceColor());
+    }
 
-            int colorIdx = 0;
-            if (UNUSED_SERVICE_COLORS.size() > 1) {
-                colorIdx = RND.nextInt(UNUSED_SERVICE_COLORS.size() - 1);
-            }
+    /**
+     * The unused colors are shared by the scenarios running concurrently, so they are picked one at a time.
+     */
+    private static synchronized String nextServiceColor() {
+        if (UNUSED_SERVICE_COLORS.isEmpty()) {
+            // reset if no more available service colors
+            UNUSED_SERVICE_COLORS.addAll(ALL_SERVICE_COLORS);
+        }
 
-            color = UNUSED_SERVICE_COLORS.remove(colorIdx);
-            SERVICE_COLOR_MAPPING.put(service.getName(), color);
+        int colorIdx = 0;
+        if (UNUSED_SERVICE_COLORS.size() > 1) {
+            colorIdx = RND.nextInt(UNUSED_SERVICE_COLORS.size() - 1);
         }
 
-        return color;
+        return UNUSED_SERVICE_COLORS.remove(colorIdx);
     }
 
     private static String inBrackets(Service service) {
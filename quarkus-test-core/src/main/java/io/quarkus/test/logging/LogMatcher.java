@@ -0,0 +1,113 @@
+package io.quarkus.test.logging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Remember which of the expected texts were found in the logs, so every line is evaluated only once. A line contains
+ * an expected text when it contains it literally or when it matches it as a regular expression. All the literals are
+ * searched at once using an {@link AhoCorasickAutomaton} and the regular expressions are compiled once.
+ */
+final class LogMatcher {
+
+    private static final String ANY = ".*";
+    private static final String REGEX_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final Map<String, Expectation> expectations = new HashMap<>();
+    private final List<String> texts = new ArrayList<>();
+    private final List<Expectation> literals = new ArrayList<>();
+    private final List<Expectation> regularExpressions = new ArrayList<>();
+    private final IntConsumer onLiteralFound = literal -> found(literals.get(literal));
+    private AhoCorasickAutomaton automaton;
+    private int pending;
+
+    /**
+     * @param history the lines received before the expected text was registered. It is only used the first time.
+     */
+    synchronized boolean contains(String expected, Supplier<List<String>> history) {
+        Expectation expectation = expectations.get(expected);
+        if (expectation == null) {
+            expectation = register(expected);
+            history.get().forEach(this::evaluate);
+        }
+
+        return expectation.found;
+    }
+
+    synchronized void onLine(String line) {
+        if (pending > 0) {
+            evaluate(line);
+        }
+    }
+
+    /**
+     * Forget the expected texts, so they are searched again in the history next time.
+     */
+    synchronized void reset() {
+        expectations.clear();
+        texts.clear();
+        literals.clear();
+        regularExpressions.clear();
+        automaton = null;
+        pending = 0;
+    }
+
+    private Expectation register(String expected) {
+        Expectation expectation = new Expectation(compile(expected));
+        expectations.put(expected, expectation);
+        texts.add(expected);
+        literals.add(expectation);
+        if (expectation.pattern != null) {
+            regularExpressions.add(expectation);
+        }
+
+        automaton = new AhoCorasickAutomaton(texts);
+        pending++;
+        return expectation;
+    }
+
+    private void evaluate(String line) {
+        automaton.search(line, onLiteralFound);
+        for (Expectation expectation : regularExpressions) {
+            if (!expectation.found && expectation.pattern.matcher(line).matches()) {
+                found(expectation);
+            }
+        }
+    }
+
+    private void found(Expectation expectation) {
+        if (!expectation.found) {
+            expectation.found = true;
+            pending--;
+        }
+    }
+
+    private static Pattern compile(String expected) {
+        if (expected.chars().noneMatch(character -> REGEX_CHARACTERS.indexOf(character) >= 0)) {
+            // without special characters, matching as a regular expression is the same as containing the literal
+            return null;
+        }
+
+        try {
+            return Pattern.compile(ANY + expected + ANY);
+        } catch (PatternSyntaxException ex) {
+            return null;
+        }
+    }
+
+    private static final class Expectation {
+
+        private final Pattern pattern;
+        private boolean found;
+
+        private Expectation(Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+}
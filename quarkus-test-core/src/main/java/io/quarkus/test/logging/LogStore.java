@@ -0,0 +1,21 @@
+package io.quarkus.test.logging;
+
+import java.util.List;
+
+/**
+ * Storage of the lines received by a {@link LoggingHandler}.
+ */
+public interface LogStore {
+
+    void append(String line);
+
+    /**
+     * @return read-only view of the lines stored so far. Lines appended later are not part of it.
+     */
+    List<String> snapshot();
+
+    /**
+     * Remove all the lines. The snapshots taken before might not be readable anymore.
+     */
+    void clear();
+}
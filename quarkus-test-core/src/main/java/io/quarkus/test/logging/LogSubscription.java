@@ -0,0 +1,77 @@
+package io.quarkus.test.logging;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.quarkus.test.utils.FrameworkExecutor;
+
+/**
+ * Deliver the new log lines to a consumer in the background. When the consumer is slower than the logs and the
+ * pending lines reach the capacity, the log watching waits for the consumer (backpressure) instead of dropping lines.
+ */
+public final class LogSubscription implements Closeable {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<String> pending;
+    private final Consumer<String> consumer;
+    private final Consumer<String> listener = this::offer;
+    private final LoggingHandler handler;
+    private final Future<?> delivery;
+    private volatile boolean closed;
+
+    LogSubscription(LoggingHandler handler, Consumer<String> consumer, int capacity) {
+        this.handler = handler;
+        this.consumer = consumer;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+        this.delivery = FrameworkExecutor.submit(this::deliver);
+        handler.addLineListener(listener);
+    }
+
+    /**
+     * Stop delivering lines. The pending lines are discarded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        handler.removeLineListener(listener);
+        pending.clear();
+        delivery.cancel(true);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void offer(String line) {
+        try {
+            boolean offered = false;
+            while (!closed && !offered) {
+                // wait for the consumer
+                offered = pending.offer(line, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver() {
+        try {
+            while (!closed) {
+                String line = pending.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (line != null) {
+                    consumer.accept(line);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            Log.warn("Log subscription closed because the consumer failed. Caused by %s", ex.getMessage());
+            close();
+        }
+    }
+}
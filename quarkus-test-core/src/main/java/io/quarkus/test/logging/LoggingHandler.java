@@ -1,54 +1,134 @@
 package io.quarkus.test.logging;
 
 import java.io.Closeable;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apache.maven.shared.utils.StringUtils;
 
 import io.quarkus.test.utils.AwaitilityUtils;
+import io.quarkus.test.utils.FrameworkExecutor;
 
 public abstract class LoggingHandler implements Closeable {
 
     private static final long TIMEOUT_IN_MILLIS = 4000;
-    private static final String ANY = ".*";
-
-    private Thread innerThread;
-    private List<String> logs = new CopyOnWriteArrayList<>();
+    private static final long LISTENED_TIMEOUT_IN_MILLIS = 100;
+
+    private Future<?> watcher;
+    private final LogStore logs;
+    private final LogMatcher matcher = new LogMatcher();
+    private final List<Consumer<String>> lineListeners = new CopyOnWriteArrayList<>();
+    // not a monitor, so waiting does not pin the carrier thread when using virtual threads
+    private final Lock watchingLock = new ReentrantLock();
+    private final Condition listenersChanged = watchingLock.newCondition();
     private boolean running = false;
+    private volatile Long firstLineTime;
+
+    public LoggingHandler() {
+        this(new RingBufferLogStore());
+    }
+
+    public LoggingHandler(LogStore logs) {
+        this.logs = logs;
+    }
 
     protected abstract void handle();
 
     public void startWatching() {
         logs.clear();
+        matcher.reset();
+        firstLineTime = null;
         running = true;
-        innerThread = new Thread(this::run);
-        innerThread.setDaemon(true);
-        innerThread.start();
+        watcher = FrameworkExecutor.submit(this::run);
     }
 
     public void stopWatching() {
         flush();
         running = false;
-        logs.clear();
-        if (innerThread != null) {
-            try {
-                innerThread.interrupt();
-            } catch (Exception ignored) {
+        if (!isLogKeptAfterStop()) {
+            logs.clear();
+            matcher.reset();
+        }
 
-            }
+        if (watcher != null) {
+            watcher.cancel(true);
         }
     }
 
+    /**
+     * Register a listener that is notified for every new line. While there are listeners, the logs are watched more
+     * often.
+     */
+    public void addLineListener(Consumer<String> listener) {
+        lineListeners.add(listener);
+        watchingLock.lock();
+        try {
+            listenersChanged.signalAll();
+        } finally {
+            watchingLock.unlock();
+        }
+    }
+
+    public void removeLineListener(Consumer<String> listener) {
+        lineListeners.remove(listener);
+    }
+
     public List<String> logs() {
-        return Collections.unmodifiableList(logs);
+        return logs.snapshot();
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} when the first line since watching started was received.
+     */
+    public Optional<Long> getFirstLineTime() {
+        return Optional.ofNullable(firstLineTime);
+    }
+
+    /**
+     * @return a future completed with the first line matching the predicate, either already received or received from
+     *         now on. It completes as soon as the line is received, without polling the logs.
+     */
+    public CompletableFuture<String> await(Predicate<String> predicate) {
+        CompletableFuture<String> matchingLine = new CompletableFuture<>();
+        Consumer<String> listener = line -> {
+            try {
+                if (!matchingLine.isDone() && predicate.test(line)) {
+                    matchingLine.complete(line);
+                }
+            } catch (RuntimeException ex) {
+                matchingLine.completeExceptionally(ex);
+            }
+        };
+
+        addLineListener(listener);
+        matchingLine.whenComplete((line, error) -> removeLineListener(listener));
+        // the listener is registered first, so no line is missed between reading the logs and listening
+        logs().stream().filter(predicate).findFirst().ifPresent(matchingLine::complete);
+        return matchingLine;
+    }
+
+    /**
+     * Deliver the lines received from now on to the consumer in the background. See {@link LogSubscription}.
+     *
+     * @param capacity max number of lines waiting for the consumer before the log watching waits too.
+     */
+    public LogSubscription subscribe(Consumer<String> consumer, int capacity) {
+        return new LogSubscription(this, consumer, capacity);
     }
 
     public boolean logsContains(String expected) {
-        return logs().stream().anyMatch(line -> line.contains(expected) // simple contains
-                || line.matches(ANY + expected + ANY)); // or by regular expression
+        // simple contains or by regular expression
+        return matcher.contains(expected, this::logs);
     }
 
     public void flush() {
@@ -66,7 +146,13 @@ public abstract class LoggingHandler implements Closeable {
         while (running) {
             try {
                 handle();
-                Thread.sleep(TIMEOUT_IN_MILLIS);
+                watchingLock.lock();
+                try {
+                    listenersChanged.await(lineListeners.isEmpty() ? TIMEOUT_IN_MILLIS : LISTENED_TIMEOUT_IN_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                } finally {
+                    watchingLock.unlock();
+                }
             } catch (Exception ignored) {
 
             }
@@ -74,7 +160,13 @@ public abstract class LoggingHandler implements Closeable {
     }
 
     protected void onLine(String line) {
-        logs.add(line);
+        if (firstLineTime == null) {
+            firstLineTime = System.nanoTime();
+        }
+
+        logs.append(line);
+        matcher.onLine(line);
+        lineListeners.forEach(listener -> listener.accept(line));
         if (isLogEnabled()) {
             logInfo(line);
         }
@@ -96,6 +188,13 @@ public abstract class LoggingHandler implements Closeable {
         }
     }
 
+    /**
+     * @return true to keep the logs available until watching starts again, for example to verify the shutdown logs.
+     */
+    protected boolean isLogKeptAfterStop() {
+        return false;
+    }
+
     protected boolean isLogEnabled() {
         return true;
     }
@@ -0,0 +1,250 @@
+package io.quarkus.test.logging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import io.quarkus.test.configuration.PropertyLookup;
+
+/**
+ * Keep the latest lines in a ring buffer and spill the older ones to an append-only temporary file, so the memory
+ * does not grow with the number of lines. Every line has a sequential index and the spill file is indexed every
+ * {@link #INDEX_INTERVAL} lines, so any line can be read back.
+ */
+public class RingBufferLogStore implements LogStore {
+
+    private static final PropertyLookup BUFFER_LINES = new PropertyLookup("log.buffer.lines", "10000");
+    private static final int INDEX_INTERVAL = 256;
+    private static final int READ_BATCH = 512;
+    private static final int INITIAL_INDEX_ENTRIES = 16;
+    private static final String SPILL_FILE_PREFIX = "ts-logs-";
+
+    private final int capacity;
+    private Segment segment;
+
+    public RingBufferLogStore() {
+        this(BUFFER_LINES.getAsInteger());
+    }
+
+    public RingBufferLogStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log buffer capacity must be positive, but was " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.segment = new Segment(capacity);
+    }
+
+    @Override
+    public synchronized void append(String line) {
+        segment.append(line);
+    }
+
+    @Override
+    public synchronized List<String> snapshot() {
+        return new Snapshot(segment, segment.size());
+    }
+
+    @Override
+    public synchronized void clear() {
+        segment.delete();
+        segment = new Segment(capacity);
+    }
+
+    /**
+     * Lines appended since the last clear.
+     */
+    private static final class Segment {
+
+        private final String[] ring;
+
+        private long size;
+        private Path spillFile;
+        private DataOutputStream spillOutput;
+        private long spillBytes;
+        private long[] index = new long[INITIAL_INDEX_ENTRIES];
+        private boolean deleted;
+
+        private Segment(int capacity) {
+            this.ring = new String[capacity];
+        }
+
+        private synchronized long size() {
+            return size;
+        }
+
+        private synchronized void append(String line) {
+            int slot = (int) (size % ring.length);
+            if (size >= ring.length) {
+                spill(size - ring.length, ring[slot]);
+            }
+
+            ring[slot] = line;
+            size++;
+        }
+
+        /**
+         * Read up to {@link #READ_BATCH} lines from `from` (inclusive) to `to` (exclusive).
+         */
+        private synchronized List<String> read(long from, long to) {
+            long spilled = Math.max(0, size - ring.length);
+            List<String> lines = new ArrayList<>();
+            if (from >= spilled) {
+                for (long i = from; i < to && lines.size() < READ_BATCH; i++) {
+                    lines.add(ring[(int) (i % ring.length)]);
+                }
+            } else if (deleted) {
+                throw new IllegalStateException("Logs were cleared");
+            } else {
+                readSpilled(from, Math.min(to, spilled), lines);
+            }
+
+            return lines;
+        }
+
+        private void spill(long lineIndex, String line) {
+            try {
+                if (spillOutput == null) {
+                    spillFile = Files.createTempFile(SPILL_FILE_PREFIX, ".bin");
+                    spillFile.toFile().deleteOnExit();
+                    spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+                }
+
+                if (lineIndex % INDEX_INTERVAL == 0) {
+                    int position = (int) (lineIndex / INDEX_INTERVAL);
+                    if (position == index.length) {
+                        index = Arrays.copyOf(index, index.length * 2);
+                    }
+
+                    index[position] = spillBytes;
+                }
+
+                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                spillOutput.writeInt(bytes.length);
+                spillOutput.write(bytes);
+                spillBytes += Integer.BYTES + bytes.length;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not spill the logs to " + spillFile, ex);
+            }
+        }
+
+        private void readSpilled(long from, long to, List<String> lines) {
+            try {
+                spillOutput.flush();
+                try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ)) {
+                    channel.position(index[(int) (from / INDEX_INTERVAL)]);
+                    DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                    for (long i = from - from % INDEX_INTERVAL; i < from; i++) {
+                        skipFully(input, input.readInt());
+                    }
+
+                    for (long i = from; i < to && lines.size() < READ_BATCH; i++) {
+                        byte[] bytes = new byte[input.readInt()];
+                        input.readFully(bytes);
+                        lines.add(new String(bytes, StandardCharsets.UTF_8));
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not read the logs from " + spillFile, ex);
+            }
+        }
+
+        private static void skipFully(DataInputStream input, int length) throws IOException {
+            int remaining = length;
+            while (remaining > 0) {
+                int skipped = input.skipBytes(remaining);
+                if (skipped <= 0) {
+                    throw new EOFException();
+                }
+
+                remaining -= skipped;
+            }
+        }
+
+        private synchronized void delete() {
+            deleted = true;
+            if (spillOutput != null) {
+                try {
+                    spillOutput.close();
+                    Files.deleteIfExists(spillFile);
+                } catch (IOException ex) {
+                    Log.warn("Could not delete the logs file %s. Caused by %s", spillFile, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Snapshot extends AbstractList<String> {
+
+        private final Segment segment;
+        private final int size;
+
+        private Snapshot(Segment segment, long size) {
+            this.segment = segment;
+            this.size = (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public String get(int position) {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+            }
+
+            return segment.read(position, position + 1L).get(0);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Read the lines in batches, so iterating does not seek the spill file for every line.
+         */
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+
+                private long next;
+                private List<String> batch = List.of();
+                private int batchPosition;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    if (batchPosition == batch.size()) {
+                        batch = segment.read(next, size);
+                        batchPosition = 0;
+                    }
+
+                    next++;
+                    return batch.get(batchPosition++);
+                }
+            };
+        }
+    }
+}
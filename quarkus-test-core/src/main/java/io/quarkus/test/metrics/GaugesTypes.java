@@ -4,7 +4,10 @@ public enum GaugesTypes {
     TESTS_TOTAL("tests_total"),
     TESTS_SUCCEED("tests_succeed"),
     TESTS_IGNORE("tests_ignored"),
-    TESTS_FAILED("tests_failed");
+    TESTS_FAILED("tests_failed"),
+    FRAMEWORK_TASKS_PEAK("framework_executor_tasks_peak"),
+    FRAMEWORK_THREADS_LIVE("framework_executor_threads_live"),
+    FRAMEWORK_THREADS_ACTIVE("framework_executor_threads_active");
 
     private String code;
 
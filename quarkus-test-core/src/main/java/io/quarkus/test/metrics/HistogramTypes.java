@@ -1,15 +1,36 @@
 package io.quarkus.test.metrics;
 
 public enum HistogramTypes {
-    SCENARIO_TEST_TIME_SEC("scenario_duration_seconds");
+    SCENARIO_TEST_TIME_SEC("scenario_duration_seconds", "Test latency in seconds.", "seconds"),
+    SERVICE_STARTUP_PHASE_SEC("service_startup_phase_seconds", "Duration of every service startup phase in seconds.",
+            "seconds"),
+    AWAIT_DURATION_SEC("await_duration_seconds", "Time spent waiting for a condition in seconds.", "seconds"),
+    AWAIT_OBSERVATION_LATENCY_SEC("await_observation_latency_seconds",
+            "Time from the condition being met to the wait observing it in seconds.", "seconds"),
+    AWAIT_POLLS("await_polls", "Number of times a condition was checked while waiting.", "");
 
     private String code;
+    private String help;
+    private String unit;
 
-    HistogramTypes(String code) {
+    HistogramTypes(String code, String help, String unit) {
         this.code = code;
+        this.help = help;
+        this.unit = unit;
     }
 
     public String getCode() {
         return code;
     }
+
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * @return the unit the code ends with, or empty when the values have no unit.
+     */
+    public String getUnit() {
+        return unit;
+    }
 }
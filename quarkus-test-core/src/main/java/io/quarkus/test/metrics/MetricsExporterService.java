@@ -32,16 +32,21 @@ public class MetricsExporterService {
         }
     }
 
-    public <T> T getMetricValue(String metricId, T defaultValue) {
+    public synchronized <T> T getMetricValue(String metricId, T defaultValue) {
         return (T) metrics.getOrDefault(metricId, defaultValue);
     }
 
-    public void commit(String metricId, Object metricValue) {
+    public synchronized void commit(String metricId, Object metricValue) {
         exporters.forEach(exporter -> exporter.commit(metricId, metricValue));
         metrics.put(metricId, metricValue);
     }
 
-    public void push(Map<String, String> labels) {
+    public synchronized void commit(String metricId, String help, String unit, Map<String, String> labels,
+            double metricValue) {
+        exporters.forEach(exporter -> exporter.commit(metricId, help, unit, labels, metricValue));
+    }
+
+    public synchronized void push(Map<String, String> labels) {
         for (MetricsExporter exporter : exporters) {
             try {
                 exporter.push(TestExecutionProperties.getServiceName(), labels);
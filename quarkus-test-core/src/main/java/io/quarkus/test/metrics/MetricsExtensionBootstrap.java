@@ -1,11 +1,18 @@
 package io.quarkus.test.metrics;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import io.quarkus.test.bootstrap.ExtensionBootstrap;
 import io.quarkus.test.bootstrap.ScenarioContext;
+import io.quarkus.test.bootstrap.Service;
 import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.utils.AwaitAccounting;
+import io.quarkus.test.utils.FrameworkExecutor;
 
 public class MetricsExtensionBootstrap implements ExtensionBootstrap {
 
@@ -14,11 +21,17 @@ public class MetricsExtensionBootstrap implements ExtensionBootstrap {
     private static final PropertyLookup METRICS_PUSH_AFTER_EACH_TEST = new PropertyLookup(
             "metrics.push-after-each-test", "false");
 
+    private static final String SERVICE_LABEL = "service";
+    private static final String PHASE_LABEL = "phase";
+    private static final String SITE_LABEL = "site";
+
     private final boolean extensionEnabled;
+    private final List<Service> launchedServices = new CopyOnWriteArrayList<>();
 
     private QuarkusLabels metricCommonLabels;
     private QuarkusGauges quarkusGauges;
     private QuarkusHistograms quarkusHistograms;
+    private long scenarioStartNanos;
 
     public MetricsExtensionBootstrap() {
         extensionEnabled = METRICS_EXTENSION_ENABLED_PROPERTY.getAsBoolean();
@@ -37,6 +50,7 @@ public class MetricsExtensionBootstrap implements ExtensionBootstrap {
 
     @Override
     public void beforeAll(ScenarioContext context) {
+        scenarioStartNanos = System.nanoTime();
         quarkusHistograms.startDurationBeforeAll(HistogramTypes.SCENARIO_TEST_TIME_SEC);
         metricCommonLabels.addModuleNameLabel();
         metricCommonLabels.addScenarioNameLabel(context.getRunningTestClassName());
@@ -44,6 +58,11 @@ public class MetricsExtensionBootstrap implements ExtensionBootstrap {
         metricCommonLabels.markModuleAsSuccess();
     }
 
+    @Override
+    public void onServiceLaunch(ScenarioContext context, Service service) {
+        launchedServices.add(service);
+    }
+
     @Override
     public void beforeEach(ScenarioContext context) {
         quarkusGauges.increment(GaugesTypes.TESTS_TOTAL);
@@ -72,6 +91,22 @@ public class MetricsExtensionBootstrap implements ExtensionBootstrap {
     @Override
     public void afterAll(ScenarioContext context) {
         quarkusHistograms.stopDurationAfterAll(HistogramTypes.SCENARIO_TEST_TIME_SEC);
+        ScenarioDurations.save(context.getTestContext().getRequiredTestClass().getName(),
+                Duration.ofNanos(System.nanoTime() - scenarioStartNanos));
+        launchedServices.forEach(service -> service.getStartupTimings().asMap()
+                .forEach((phase, duration) -> quarkusHistograms.observe(HistogramTypes.SERVICE_STARTUP_PHASE_SEC,
+                        Map.of(SERVICE_LABEL, service.getName(), PHASE_LABEL, phase.getCode()), duration)));
+        launchedServices.clear();
+        AwaitAccounting.getStatistics(context.getId()).forEach((site, statistics) -> {
+            Map<String, String> labels = Map.of(SITE_LABEL, site);
+            quarkusHistograms.observe(HistogramTypes.AWAIT_DURATION_SEC, labels, statistics.getDuration());
+            quarkusHistograms.observe(HistogramTypes.AWAIT_OBSERVATION_LATENCY_SEC, labels,
+                    statistics.getObservationLatency());
+            quarkusHistograms.observe(HistogramTypes.AWAIT_POLLS, labels, statistics.getPolls());
+        });
+        quarkusGauges.set(GaugesTypes.FRAMEWORK_TASKS_PEAK, FrameworkExecutor.getPeakTasks());
+        quarkusGauges.set(GaugesTypes.FRAMEWORK_THREADS_LIVE, FrameworkExecutor.getLiveThreads());
+        quarkusGauges.set(GaugesTypes.FRAMEWORK_THREADS_ACTIVE, FrameworkExecutor.getActiveTasks());
         quarkusHistograms.push(metricCommonLabels);
         if (!METRICS_PUSH_AFTER_EACH_TEST.getAsBoolean()) {
             quarkusGauges.push(metricCommonLabels);
@@ -9,8 +9,15 @@ public class QuarkusGauges {
     }
 
     public void increment(GaugesTypes gaugesTypes) {
-        int currentGaugeValue = getCurrentGaugeValue(gaugesTypes.getCode());
-        exporter.commit(gaugesTypes.getCode(), currentGaugeValue + 1);
+        // test methods of a scenario might finish at the same time
+        synchronized (exporter) {
+            int currentGaugeValue = getCurrentGaugeValue(gaugesTypes.getCode());
+            exporter.commit(gaugesTypes.getCode(), currentGaugeValue + 1);
+        }
+    }
+
+    public void set(GaugesTypes gaugesTypes, int value) {
+        exporter.commit(gaugesTypes.getCode(), value);
     }
 
     public void push(QuarkusLabels labels) {
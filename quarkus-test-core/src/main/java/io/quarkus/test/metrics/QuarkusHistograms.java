@@ -1,5 +1,6 @@
 package io.quarkus.test.metrics;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +11,7 @@ import org.apache.commons.lang3.time.StopWatch;
 
 public class QuarkusHistograms {
 
+    private static final double MILLIS_PER_SECOND = 1000.0;
     private static final List<HistogramTypes> TYPES = Arrays.asList(HistogramTypes.SCENARIO_TEST_TIME_SEC);
 
     private final MetricsExporterService exporter;
@@ -33,6 +35,14 @@ public class QuarkusHistograms {
         }
     }
 
+    public void observe(HistogramTypes histogramTypes, Map<String, String> labels, Duration duration) {
+        observe(histogramTypes, labels, duration.toMillis() / MILLIS_PER_SECOND);
+    }
+
+    public void observe(HistogramTypes histogramTypes, Map<String, String> labels, double value) {
+        exporter.commit(histogramTypes.getCode(), histogramTypes.getHelp(), histogramTypes.getUnit(), labels, value);
+    }
+
     public void push(QuarkusLabels labels) {
         exporter.push(labels.getLabelsBucket());
     }
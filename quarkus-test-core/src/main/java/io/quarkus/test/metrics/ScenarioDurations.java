@@ -0,0 +1,84 @@
+package io.quarkus.test.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+
+/**
+ * Duration of the last execution of every scenario class, kept in a properties file so they can be used across
+ * executions (for example to split the scenarios into balanced shards). The file is out of `target` by default, so it
+ * survives `mvn clean`.
+ */
+public final class ScenarioDurations {
+
+    private static final PropertyLookup DURATIONS_FILE = new PropertyLookup("metrics.durations.file",
+            ".quarkus-test-framework/scenario-durations.properties");
+    private static final String LOCK_SUFFIX = ".lock";
+
+    private ScenarioDurations() {
+
+    }
+
+    /**
+     * @return the last known duration of every scenario class, or empty if there is no durations file.
+     */
+    public static Map<String, Duration> load() {
+        Map<String, Duration> durations = new HashMap<>();
+        Path file = Path.of(DURATIONS_FILE.get());
+        if (!Files.exists(file)) {
+            return durations;
+        }
+
+        try {
+            readProperties(file).forEach((className, millis) -> durations.put((String) className,
+                    Duration.ofMillis(Long.parseLong((String) millis))));
+        } catch (Exception ex) {
+            Log.warn("Could not load scenario durations from %s. Caused by %s", file, ex.getMessage());
+        }
+
+        return durations;
+    }
+
+    /**
+     * Store the duration of the scenario class. Several JVMs (for example Surefire forks) can update the file at the
+     * same time.
+     */
+    public static synchronized void save(String className, Duration duration) {
+        Path file = Path.of(DURATIONS_FILE.get());
+        Path lockFile = file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock ignored = channel.lock()) {
+                Properties durations = Files.exists(file) ? readProperties(file) : new Properties();
+                durations.setProperty(className, String.valueOf(duration.toMillis()));
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    durations.store(out, null);
+                }
+            }
+        } catch (IOException ex) {
+            Log.warn("Could not save scenario duration to %s. Caused by %s", file, ex.getMessage());
+        }
+    }
+
+    private static Properties readProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+
+        return properties;
+    }
+}
@@ -5,7 +5,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import io.quarkus.test.configuration.PropertyLookup;
 
@@ -26,6 +28,14 @@ public class FileMetricsExporter implements MetricsExporter {
         metrics.put(metricId, metricValue);
     }
 
+    @Override
+    public void commit(String metricId, String help, String unit, Map<String, String> labels, double metricValue) {
+        String labelsAsText = new TreeMap<>(labels).entrySet().stream()
+                .map(label -> String.format("%s=\"%s\"", label.getKey(), label.getValue()))
+                .collect(Collectors.joining(","));
+        metrics.put(metricId + "{" + labelsAsText + "}", metricValue);
+    }
+
     @Override
     public void push(String serviceName, Map<String, String> labels) throws IOException {
         Map<String, Object> allMetrics = new HashMap<>();
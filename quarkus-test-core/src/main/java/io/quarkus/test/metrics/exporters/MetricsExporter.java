@@ -8,5 +8,13 @@ public interface MetricsExporter {
 
     void commit(String metricId, Object metricValue);
 
+    /**
+     * Observe a value of a labeled histogram.
+     *
+     * @param help description of the metric.
+     * @param unit unit of the values, or empty when they have no unit.
+     */
+    void commit(String metricId, String help, String unit, Map<String, String> labels, double metricValue);
+
     void push(String serviceName, Map<String, String> labels) throws IOException;
 }
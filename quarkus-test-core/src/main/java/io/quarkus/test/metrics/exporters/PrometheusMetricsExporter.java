@@ -3,6 +3,7 @@ package io.quarkus.test.metrics.exporters;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.Gauge;
@@ -35,6 +36,20 @@ public class PrometheusMetricsExporter implements MetricsExporter {
         }
     }
 
+    @Override
+    public void commit(String metricId, String help, String unit, Map<String, String> labels, double metricValue) {
+        Map<String, String> sortedLabels = new TreeMap<>(labels);
+        Histogram histogram = registeredHistogramMetrics.get(metricId);
+        if (histogram == null) {
+            histogram = Histogram.build().name(metricId).help(help).unit(unit)
+                    .labelNames(sortedLabels.keySet().toArray(String[]::new))
+                    .register(defaultRegistry);
+            registeredHistogramMetrics.put(metricId, histogram);
+        }
+
+        histogram.labels(sortedLabels.values().toArray(String[]::new)).observe(metricValue);
+    }
+
     @Override
     public void push(String serviceName, Map<String, String> labels) throws IOException {
         prometheusClient.pushAdd(defaultRegistry, serviceName, labels);
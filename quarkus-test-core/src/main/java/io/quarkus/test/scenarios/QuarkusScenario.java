@@ -15,4 +15,11 @@ import io.quarkus.test.bootstrap.QuarkusScenarioBootstrap;
 @ExtendWith(QuarkusScenarioBootstrap.class)
 @Inherited
 public @interface QuarkusScenario {
+
+    /**
+     * Allow the test methods of the scenario to run concurrently against the same services. It requires JUnit parallel
+     * execution (`junit.jupiter.execution.parallel.enabled`) and the test class or methods to be annotated with
+     * `@Execution(ExecutionMode.CONCURRENT)`.
+     */
+    boolean concurrentMethods() default false;
 }
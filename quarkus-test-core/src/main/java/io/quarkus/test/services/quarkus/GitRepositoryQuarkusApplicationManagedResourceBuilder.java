@@ -4,12 +4,13 @@ import static java.util.regex.Pattern.quote;
 
 import java.lang.annotation.Annotation;
 import java.nio.file.Path;
-import java.util.ServiceLoader;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 
 import io.quarkus.test.services.GitRepositoryQuarkusApplication;
 import io.quarkus.test.services.quarkus.model.QuarkusProperties;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class GitRepositoryQuarkusApplicationManagedResourceBuilder extends ProdQuarkusApplicationManagedResourceBuilder {
 
@@ -17,8 +18,8 @@ public class GitRepositoryQuarkusApplicationManagedResourceBuilder extends ProdQ
     protected static final String QUARKUS_PLUGIN_VERSION_PROPERTY = "${QUARKUS-PLUGIN_VERSION}";
     protected static final String QUARKUS_PLATFORM_GROUP_ID_PROPERTY = "${QUARKUS_PLATFORM_GROUP-ID}";
 
-    private final ServiceLoader<GitRepositoryQuarkusApplicationManagedResourceBinding> bindings = ServiceLoader
-            .load(GitRepositoryQuarkusApplicationManagedResourceBinding.class);
+    private final List<GitRepositoryQuarkusApplicationManagedResourceBinding> bindings = ServiceLoaderUtils
+            .loadAll(GitRepositoryQuarkusApplicationManagedResourceBinding.class);
 
     private String gitRepository;
     private String gitBranch;
@@ -9,10 +9,12 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -22,6 +24,8 @@ import io.quarkus.test.logging.FileServiceLoggingHandler;
 import io.quarkus.test.logging.Log;
 import io.quarkus.test.logging.LoggingHandler;
 import io.quarkus.test.services.URILike;
+import io.quarkus.test.utils.FileUtils;
+import io.quarkus.test.utils.JvmDiagnostics;
 import io.quarkus.test.utils.ProcessBuilderProvider;
 import io.quarkus.test.utils.ProcessUtils;
 import io.quarkus.test.utils.SocketUtils;
@@ -39,6 +43,7 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
     private int assignedHttpPort;
     private int assignedHttpsPort;
     private int assignedGrpcPort;
+    private final List<Integer> reservedPorts = new ArrayList<>();
 
     public LocalhostQuarkusApplicationManagedResource(QuarkusApplicationManagedResourceBuilder model) {
         super(model.getContext());
@@ -71,6 +76,7 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
 
             loggingHandler = new FileServiceLoggingHandler(model.getContext().getOwner(), logOutputFile);
             loggingHandler.startWatching();
+            onProcessExit(process, loggingHandler);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -83,6 +89,7 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
         }
 
         ProcessUtils.destroy(process);
+        releasePorts();
     }
 
     @Override
@@ -131,6 +138,38 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
         return process != null && process.isAlive() && super.isRunning();
     }
 
+    @Override
+    public boolean isFailed() {
+        return hasProcessExited() || super.isFailed();
+    }
+
+    @Override
+    public Optional<String> getFailureReason() {
+        if (hasProcessExited()) {
+            return Optional.of("Process exited with code " + process.exitValue());
+        }
+
+        return super.getFailureReason();
+    }
+
+    /**
+     * Capture the JVM diagnostics of the process and of its children (for example, the application started by the
+     * Maven plugin in Dev mode). Native executables are not supported.
+     */
+    @Override
+    public void captureDiagnostics(Path folder) {
+        if (process == null || !process.isAlive() || isNativeTest()) {
+            return;
+        }
+
+        JvmDiagnostics.capture(process.pid(), folder);
+        process.descendants().forEach(child -> {
+            Path childFolder = folder.resolve(String.valueOf(child.pid()));
+            FileUtils.createDirectory(childFolder);
+            JvmDiagnostics.capture(child.pid(), childFolder);
+        });
+    }
+
     @Override
     protected LoggingHandler getLoggingHandler() {
         return loggingHandler;
@@ -148,7 +187,24 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
 
     }
 
+    private boolean hasProcessExited() {
+        return process != null && !process.isAlive();
+    }
+
+    private static void onProcessExit(Process process, LoggingHandler loggingHandler) {
+        // read the last lines right away, so the failure is detected without waiting for the next logs check
+        process.onExit().thenRun(() -> {
+            try {
+                loggingHandler.flush();
+            } catch (Exception ignored) {
+                // the logs will be read by the logging handler
+            }
+        });
+    }
+
     private void assignPorts() {
+        // the ports of a previous start are released, even if the process exited without being stopped
+        releasePorts();
         assignedHttpPort = getOrAssignPortByProperty(QUARKUS_HTTP_PORT_PROPERTY);
         if (model.isSslEnabled()) {
             assignedHttpsPort = getOrAssignPortByProperty(QUARKUS_HTTP_SSL_PORT_PROPERTY);
@@ -163,7 +219,18 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
         return model.getContext().getOwner().getProperty(property)
                 .filter(StringUtils::isNotEmpty)
                 .map(Integer::parseInt)
-                .orElseGet(SocketUtils::findAvailablePort);
+                .orElseGet(this::reservePort);
+    }
+
+    private int reservePort() {
+        int port = SocketUtils.findAvailablePort();
+        reservedPorts.add(port);
+        return port;
+    }
+
+    private void releasePorts() {
+        reservedPorts.forEach(SocketUtils::releasePort);
+        reservedPorts.clear();
     }
 
     private List<String> getPropertiesForCommand() {
@@ -6,8 +6,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
-import java.util.ServiceLoader;
 
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
@@ -20,10 +20,14 @@ import io.quarkus.bootstrap.app.CuratedApplication;
 import io.quarkus.bootstrap.app.QuarkusBootstrap;
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.bootstrap.StartupTimings;
 import io.quarkus.test.common.PathTestHelper;
+import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.services.QuarkusApplication;
 import io.quarkus.test.services.quarkus.model.QuarkusProperties;
 import io.quarkus.test.utils.ReflectionUtils;
+import io.quarkus.test.utils.ResourceScheduler;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class ProdQuarkusApplicationManagedResourceBuilder extends ArtifactQuarkusApplicationManagedResourceBuilder {
 
@@ -34,9 +38,11 @@ public class ProdQuarkusApplicationManagedResourceBuilder extends ArtifactQuarku
     private static final String JVM_RUNNER = "-runner.jar";
     private static final String QUARKUS_APP = "quarkus-app";
     private static final String QUARKUS_RUN = "quarkus-run.jar";
+    private static final PropertyLookup BUILD_WEIGHT = new PropertyLookup("scheduler.build.weight", "1");
+    private static final PropertyLookup NATIVE_BUILD_WEIGHT = new PropertyLookup("scheduler.native-build.weight", "4");
 
-    private final ServiceLoader<QuarkusApplicationManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoader
-            .load(QuarkusApplicationManagedResourceBinding.class);
+    private final List<QuarkusApplicationManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoaderUtils
+            .loadAll(QuarkusApplicationManagedResourceBinding.class);
 
     private Path artifact;
     private QuarkusManagedResource managedResource;
@@ -76,10 +82,15 @@ public class ProdQuarkusApplicationManagedResourceBuilder extends ArtifactQuarku
     }
 
     public void build() {
+        StartupTimings timings = getContext().getStartupTimings();
         managedResource.onPreBuild();
-        copyResourcesToAppFolder();
+        timings.record(StartupTimings.Phase.RESOURCES_COPY, this::copyResourcesToAppFolder);
         if (managedResource.needsBuildArtifact()) {
-            this.artifact = tryToReuseOrBuildArtifact();
+            PropertyLookup weight = QuarkusProperties.isNativePackageType(getContext()) ? NATIVE_BUILD_WEIGHT : BUILD_WEIGHT;
+            try (ResourceScheduler.Lease lease = ResourceScheduler.acquire("build " + getContext().getName(),
+                    weight.getAsInteger())) {
+                this.artifact = timings.record(StartupTimings.Phase.BUILD, this::tryToReuseOrBuildArtifact);
+            }
         }
 
         managedResource.onPostBuild();
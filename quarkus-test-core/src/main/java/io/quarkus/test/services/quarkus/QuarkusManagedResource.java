@@ -2,6 +2,10 @@ package io.quarkus.test.services.quarkus;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ServiceContext;
@@ -51,6 +55,38 @@ public abstract class QuarkusManagedResource implements ManagedResource {
                 && ERRORS.stream().anyMatch(error -> getLoggingHandler().logsContains(error));
     }
 
+    @Override
+    public void addLogListener(Consumer<String> listener) {
+        if (getLoggingHandler() != null) {
+            getLoggingHandler().addLineListener(listener);
+        }
+    }
+
+    @Override
+    public void removeLogListener(Consumer<String> listener) {
+        if (getLoggingHandler() != null) {
+            getLoggingHandler().removeLineListener(listener);
+        }
+    }
+
+    @Override
+    public Optional<Long> getFirstLogLineTime() {
+        if (getLoggingHandler() == null) {
+            return Optional.empty();
+        }
+
+        return getLoggingHandler().getFirstLineTime();
+    }
+
+    @Override
+    public CompletableFuture<String> awaitLog(Predicate<String> predicate) {
+        if (getLoggingHandler() == null) {
+            return ManagedResource.super.awaitLog(predicate);
+        }
+
+        return getLoggingHandler().await(predicate);
+    }
+
     public boolean isNativeTest() {
         return getLaunchMode() == LaunchMode.NATIVE;
     }
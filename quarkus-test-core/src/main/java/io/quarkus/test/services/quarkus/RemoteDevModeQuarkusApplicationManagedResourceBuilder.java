@@ -14,7 +14,6 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.ServiceLoader;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.Protocol;
@@ -25,6 +24,7 @@ import io.quarkus.test.services.quarkus.model.QuarkusProperties;
 import io.quarkus.test.utils.FileUtils;
 import io.quarkus.test.utils.MavenUtils;
 import io.quarkus.test.utils.ProcessBuilderProvider;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class RemoteDevModeQuarkusApplicationManagedResourceBuilder extends ArtifactQuarkusApplicationManagedResourceBuilder {
 
@@ -38,8 +38,8 @@ public class RemoteDevModeQuarkusApplicationManagedResourceBuilder extends Artif
     private static final String TARGET = "target";
     private static final String RUNNER = "runner";
 
-    private final ServiceLoader<RemoteDevModeQuarkusApplicationManagedResourceBinding> bindings = ServiceLoader
-            .load(RemoteDevModeQuarkusApplicationManagedResourceBinding.class);
+    private final List<RemoteDevModeQuarkusApplicationManagedResourceBinding> bindings = ServiceLoaderUtils
+            .loadAll(RemoteDevModeQuarkusApplicationManagedResourceBinding.class);
 
     private String liveReloadPassword;
     private Path artifact;
@@ -0,0 +1,113 @@
+package io.quarkus.test.utils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Time spent by every scenario waiting in {@link AwaitilityUtils} and {@link LogsVerifier}, aggregated by call site.
+ */
+public final class AwaitAccounting {
+
+    private static final Map<String, Map<String, Statistics>> SCENARIOS = new ConcurrentHashMap<>();
+
+    private AwaitAccounting() {
+
+    }
+
+    static void record(String scenarioId, String site, Duration duration, int polls, Duration observationLatency) {
+        if (scenarioId == null) {
+            return;
+        }
+
+        SCENARIOS.computeIfAbsent(scenarioId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(site, s -> new Statistics())
+                .add(duration, polls, observationLatency);
+    }
+
+    /**
+     * @return the statistics of the scenario by call site, sorted by total wait duration (longest first).
+     */
+    public static Map<String, Statistics> getStatistics(String scenarioId) {
+        Map<String, Statistics> statistics = new LinkedHashMap<>();
+        SCENARIOS.getOrDefault(scenarioId, Collections.emptyMap()).entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, Statistics> entry) -> entry.getValue().getDuration())
+                        .reversed())
+                .forEach(entry -> statistics.put(entry.getKey(), entry.getValue()));
+        return statistics;
+    }
+
+    /**
+     * @return the statistics of all the waits of the scenario.
+     */
+    public static Statistics getTotal(String scenarioId) {
+        Statistics total = new Statistics();
+        SCENARIOS.getOrDefault(scenarioId, Collections.emptyMap()).values().forEach(total::merge);
+        return total;
+    }
+
+    public static void clear(String scenarioId) {
+        SCENARIOS.remove(scenarioId);
+    }
+
+    public static final class Statistics {
+
+        private int waits;
+        private int polls;
+        private Duration duration = Duration.ZERO;
+        private Duration observationLatency = Duration.ZERO;
+
+        /**
+         * @return number of waits.
+         */
+        public synchronized int getWaits() {
+            return waits;
+        }
+
+        /**
+         * @return number of times the conditions were evaluated.
+         */
+        public synchronized int getPolls() {
+            return polls;
+        }
+
+        /**
+         * @return total time spent waiting.
+         */
+        public synchronized Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return estimated time between the conditions becoming true and the framework noticing it.
+         */
+        public synchronized Duration getObservationLatency() {
+            return observationLatency;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%s waits, %s ms, %s polls, ~%s ms observation latency", waits, duration.toMillis(), polls,
+                    observationLatency.toMillis());
+        }
+
+        private synchronized void add(Duration waitDuration, int waitPolls, Duration waitObservationLatency) {
+            waits++;
+            polls += waitPolls;
+            duration = duration.plus(waitDuration);
+            observationLatency = observationLatency.plus(waitObservationLatency);
+        }
+
+        private synchronized void merge(Statistics other) {
+            synchronized (other) {
+                waits += other.waits;
+                polls += other.polls;
+                duration = duration.plus(other.duration);
+                observationLatency = observationLatency.plus(other.observationLatency);
+            }
+        }
+    }
+}
@@ -2,8 +2,8 @@ package io.quarkus.test.utils;
 
 import java.time.Duration;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
@@ -11,12 +11,16 @@ import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionEvaluationListener;
 import org.awaitility.core.ConditionFactory;
 import org.awaitility.core.EvaluatedCondition;
+import org.awaitility.core.IgnoredException;
 import org.awaitility.core.ThrowingRunnable;
 import org.awaitility.core.TimeoutEvent;
+import org.awaitility.pollinterval.FixedPollInterval;
+import org.awaitility.pollinterval.PollInterval;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 
 import io.quarkus.test.bootstrap.Service;
+import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.logging.Log;
 
 /**
@@ -27,6 +31,10 @@ public final class AwaitilityUtils {
     private static final String TIMEOUT_FACTOR_PROPERTY = "factor.timeout";
     private static final int POLL_SECONDS = 1;
     private static final int TIMEOUT_SECONDS = 30;
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+    private static final PropertyLookup POLL_STRATEGY = new PropertyLookup("await.poll-strategy",
+            PollStrategy.FIXED.name());
+    private static final Duration ADAPTIVE_POLL_START = Duration.ofMillis(50);
 
     private AwaitilityUtils() {
 
@@ -49,7 +57,10 @@ public final class AwaitilityUtils {
      */
     @SuppressWarnings("unchecked")
     public static void untilIsFalse(Callable<Boolean> supplier, AwaitilitySettings settings) {
-        awaits(settings).until(() -> !supplier.call());
+        await(settings, factory -> {
+            factory.until(() -> !supplier.call());
+            return null;
+        });
     }
 
     /**
@@ -69,7 +80,10 @@ public final class AwaitilityUtils {
      */
     @SuppressWarnings("unchecked")
     public static void untilIsTrue(Callable<Boolean> supplier, AwaitilitySettings settings) {
-        awaits(settings).until(supplier);
+        await(settings, factory -> {
+            factory.until(supplier);
+            return null;
+        });
     }
 
     /**
@@ -112,7 +126,7 @@ public final class AwaitilityUtils {
      * @param asserts custom assertions that the instance must satisfy.
      */
     public static <T> void untilAsserted(Supplier<T> supplier, Consumer<T> asserts) {
-        awaits().untilAsserted(() -> asserts.accept(get(supplier).call()));
+        untilAsserted(() -> asserts.accept(get(supplier).call()), AwaitilitySettings.defaults());
     }
 
     /**
@@ -131,7 +145,10 @@ public final class AwaitilityUtils {
      * @param settings Awaitility Settings
      */
     public static void untilAsserted(ThrowingRunnable assertion, AwaitilitySettings settings) {
-        awaits(settings).untilAsserted(assertion);
+        await(settings, factory -> {
+            factory.untilAsserted(assertion);
+            return null;
+        });
     }
 
     public static <T> T until(Supplier<T> supplier, Matcher<T> matcher) {
@@ -139,7 +156,7 @@ public final class AwaitilityUtils {
     }
 
     public static <T> T until(Supplier<T> supplier, Matcher<T> matcher, AwaitilitySettings settings) {
-        return awaits(settings).until(get(supplier), matcher);
+        return await(settings, factory -> factory.until(get(supplier), matcher));
     }
 
     private static <T> Callable<T> get(Supplier<T> supplier) {
@@ -150,39 +167,80 @@ public final class AwaitilityUtils {
         };
     }
 
-    private static ConditionFactory awaits() {
-        return awaits(AwaitilitySettings.defaults());
+    private static <T> T await(AwaitilitySettings settings, Function<ConditionFactory, T> wait) {
+        String site = findCallSite(settings);
+        CustomConditionEvaluationListener listener = new CustomConditionEvaluationListener(settings);
+        long start = System.nanoTime();
+        try {
+            return wait.apply(awaits(settings, listener));
+        } finally {
+            String scenarioId = settings.service != null ? settings.service.getScenarioId() : Log.getCurrentScenarioId();
+            AwaitAccounting.record(scenarioId, site, Duration.ofNanos(System.nanoTime() - start), listener.polls,
+                    listener.getObservationLatency());
+        }
     }
 
-    private static ConditionFactory awaits(AwaitilitySettings settings) {
+    private static ConditionFactory awaits(AwaitilitySettings settings, CustomConditionEvaluationListener listener) {
         ConditionFactory factory = Awaitility.await()
-                .pollInterval(settings.interval.toSeconds(), TimeUnit.SECONDS)
-                .atMost(timeoutInSeconds(settings), TimeUnit.SECONDS);
+                .pollInterval(pollStrategy(settings).toPollInterval(settings.interval))
+                .atMost(timeout(settings))
+                .pollExecutorService(FrameworkExecutor.getExecutorService())
+                .conditionEvaluationListener(listener);
 
         if (!settings.doNotIgnoreExceptions) {
             factory = factory.ignoreExceptions();
         }
 
-        if (settings.service != null || StringUtils.isNotEmpty(settings.timeoutMessage)) {
-            // Enable logging
-            factory = factory.conditionEvaluationListener(new CustomConditionEvaluationListener(settings));
-        }
-
         return factory;
     }
 
-    private static long timeoutInSeconds(AwaitilitySettings settings) {
+    /**
+     * @return the service name (if any) and the first method outside this class waiting for the condition.
+     */
+    private static String findCallSite(AwaitilitySettings settings) {
+        String caller = StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(AwaitilityUtils.class.getName()))
+                .findFirst()
+                .map(frame -> StringUtils.substringAfterLast(frame.getClassName(), ".") + "." + frame.getMethodName())
+                .orElse(UNKNOWN_CALL_SITE));
+        return settings.service != null ? settings.service.getName() + ":" + caller : caller;
+    }
+
+    private static Duration timeout(AwaitilitySettings settings) {
         double timeoutFactor = 1.0;
         if (settings.service != null) {
             timeoutFactor = settings.service.getConfiguration().getAsDouble(TIMEOUT_FACTOR_PROPERTY, timeoutFactor);
         }
 
-        return Math.round(settings.timeout.toSeconds() * timeoutFactor);
+        return Duration.ofMillis(Math.round(settings.timeout.toMillis() * timeoutFactor));
+    }
+
+    /**
+     * @return the strategy of the settings, or the one configured for the service, or the global one.
+     */
+    private static PollStrategy pollStrategy(AwaitilitySettings settings) {
+        if (settings.pollStrategy != null) {
+            return settings.pollStrategy;
+        }
+
+        String strategy = null;
+        if (settings.service != null && settings.service.getConfiguration() != null) {
+            strategy = settings.service.getConfiguration().get(POLL_STRATEGY.getPropertyKey());
+        }
+
+        if (StringUtils.isEmpty(strategy)) {
+            strategy = POLL_STRATEGY.get();
+        }
+
+        return PollStrategy.valueOf(strategy.trim().toUpperCase());
     }
 
     public static final class CustomConditionEvaluationListener implements ConditionEvaluationListener {
 
         final AwaitilitySettings settings;
+        int polls;
+        long previousPollElapsedMillis;
+        long lastPollElapsedMillis;
 
         CustomConditionEvaluationListener(AwaitilitySettings settings) {
             this.settings = settings;
@@ -190,6 +248,11 @@ public final class AwaitilityUtils {
 
         @Override
         public void conditionEvaluated(EvaluatedCondition condition) {
+            onPoll(condition.getElapsedTimeInMS());
+            if (!isLoggingEnabled()) {
+                return;
+            }
+
             if (settings.service != null) {
                 Log.debug(settings.service, condition.getDescription());
             } else {
@@ -197,8 +260,17 @@ public final class AwaitilityUtils {
             }
         }
 
+        @Override
+        public void exceptionIgnored(IgnoredException ignoredException) {
+            onPoll(ignoredException.getElapsedTimeInMS());
+        }
+
         @Override
         public void onTimeout(TimeoutEvent timeoutEvent) {
+            if (!isLoggingEnabled()) {
+                return;
+            }
+
             String message = timeoutEvent.getDescription();
             if (StringUtils.isNotEmpty(message)) {
                 message = settings.timeoutMessage;
@@ -210,6 +282,74 @@ public final class AwaitilityUtils {
                 Log.warn(message);
             }
         }
+
+        /**
+         * The condition became true at some point between the last two polls, so half of the interval is the expected
+         * time to notice it.
+         */
+        Duration getObservationLatency() {
+            if (polls < 2) {
+                return Duration.ZERO;
+            }
+
+            return Duration.ofMillis((lastPollElapsedMillis - previousPollElapsedMillis) / 2);
+        }
+
+        private synchronized void onPoll(long elapsedMillis) {
+            polls++;
+            previousPollElapsedMillis = lastPollElapsedMillis;
+            lastPollElapsedMillis = elapsedMillis;
+        }
+
+        private boolean isLoggingEnabled() {
+            return settings.service != null || StringUtils.isNotEmpty(settings.timeoutMessage);
+        }
+    }
+
+    /**
+     * How often the conditions are evaluated.
+     */
+    public enum PollStrategy {
+        /**
+         * Evaluate the condition every interval.
+         */
+        FIXED,
+        /**
+         * Start at 50 ms and increase following the Fibonacci sequence up to the interval.
+         */
+        FIBONACCI,
+        /**
+         * Start at 50 ms and double every poll up to the interval.
+         */
+        EXPONENTIAL;
+
+        PollInterval toPollInterval(Duration interval) {
+            switch (this) {
+                case FIBONACCI:
+                    return (pollCount, previous) -> min(ADAPTIVE_POLL_START.multipliedBy(fibonacci(pollCount)), interval);
+                case EXPONENTIAL:
+                    return (pollCount, previous) -> pollCount <= 1 ? min(ADAPTIVE_POLL_START, interval)
+                            : min(previous.multipliedBy(2), interval);
+                default:
+                    return new FixedPollInterval(interval);
+            }
+        }
+
+        private static long fibonacci(int n) {
+            long previous = 0;
+            long current = 1;
+            for (int i = 1; i < n && current < Integer.MAX_VALUE; i++) {
+                long next = previous + current;
+                previous = current;
+                current = next;
+            }
+
+            return current;
+        }
+
+        private static Duration min(Duration first, Duration second) {
+            return first.compareTo(second) <= 0 ? first : second;
+        }
     }
 
     public static final class AwaitilitySettings {
@@ -219,6 +359,7 @@ public final class AwaitilityUtils {
         Service service;
         String timeoutMessage = StringUtils.EMPTY;
         boolean doNotIgnoreExceptions = false;
+        PollStrategy pollStrategy;
 
         public AwaitilitySettings withService(Service service) {
             this.service = service;
@@ -230,6 +371,15 @@ public final class AwaitilityUtils {
             return this;
         }
 
+        /**
+         * Use the poll strategy instead of the configured one (`await.poll-strategy`). The interval is the max interval
+         * of the adaptive strategies.
+         */
+        public AwaitilitySettings withPollStrategy(PollStrategy pollStrategy) {
+            this.pollStrategy = pollStrategy;
+            return this;
+        }
+
         public AwaitilitySettings doNotIgnoreExceptions() {
             this.doNotIgnoreExceptions = true;
             return this;
@@ -0,0 +1,107 @@
+package io.quarkus.test.utils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+
+/**
+ * Background queue for slow cleanup tasks (folder deletion, ...) that do not need to block the next scenario. It is
+ * disabled by default and can be enabled using `ts.global.cleanup.async.enabled`. The pending tasks are drained when
+ * the JVM exits.
+ */
+public final class CleanupQueue {
+
+    private static final PropertyLookup ASYNC_CLEANUP = new PropertyLookup("cleanup.async.enabled",
+            Boolean.FALSE.toString());
+    private static final int DRAIN_TIMEOUT_MINUTES = 5;
+
+    private static final Set<CompletableFuture<Void>> PENDING = ConcurrentHashMap.newKeySet();
+
+    private static boolean shutdownHookRegistered;
+
+    private CleanupQueue() {
+
+    }
+
+    /**
+     * Run the task in background if async cleanup is enabled, otherwise run it now.
+     */
+    public static void submit(String description, Runnable task) {
+        if (!ASYNC_CLEANUP.getAsBoolean()) {
+            runSafely(description, task);
+            return;
+        }
+
+        registerShutdownHook();
+        CompletableFuture<Void> pending;
+        try {
+            pending = CompletableFuture.runAsync(() -> runSafely(description, task), FrameworkExecutor.getExecutorService());
+        } catch (RejectedExecutionException ex) {
+            runSafely(description, task);
+            return;
+        }
+
+        PENDING.add(pending);
+        pending.whenComplete((ignored, error) -> PENDING.remove(pending));
+    }
+
+    /**
+     * Delete the path in background. The path is renamed first, so it can be recreated right away.
+     */
+    public static void deletePath(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        Path toDelete = path;
+        if (ASYNC_CLEANUP.getAsBoolean()) {
+            toDelete = path.resolveSibling(path.getFileName() + ".deleted-" + UUID.randomUUID());
+            try {
+                Files.move(path, toDelete);
+            } catch (Exception ex) {
+                Log.debug("Could not rename %s before deleting it. Caused by %s", path, ex.getMessage());
+                toDelete = path;
+            }
+        }
+
+        Path target = toDelete;
+        submit("delete " + path, () -> FileUtils.deletePath(target));
+    }
+
+    private static synchronized void registerShutdownHook() {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(CleanupQueue::drain, "cleanup-queue-drain"));
+            shutdownHookRegistered = true;
+        }
+    }
+
+    private static void drain() {
+        try {
+            CompletableFuture.allOf(PENDING.toArray(CompletableFuture[]::new)).get(DRAIN_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        } catch (TimeoutException ex) {
+            Log.warn("Cleanup tasks did not finish in %s minutes", DRAIN_TIMEOUT_MINUTES);
+        } catch (ExecutionException ignored) {
+            // the tasks log their own failures
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runSafely(String description, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception ex) {
+            Log.warn("Could not %s. Caused by %s", description, ex.getMessage());
+        }
+    }
+}
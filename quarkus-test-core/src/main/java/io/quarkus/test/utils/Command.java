@@ -9,6 +9,8 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 
 import io.quarkus.test.logging.Log;
@@ -62,12 +64,14 @@ public class Command {
         Process process = ProcessBuilderProvider.command(command).redirectErrorStream(true)
                 .directory(new File(directory).getAbsoluteFile()).start();
 
-        Thread consumer = new Thread(() -> outputConsumer.accept(description, process.getInputStream()),
-                "stdout consumer for command " + description);
-        consumer.start();
+        Future<?> consumer = FrameworkExecutor.submit(() -> outputConsumer.accept(description, process.getInputStream()));
 
         int result = process.waitFor();
-        consumer.join();
+        try {
+            consumer.get();
+        } catch (ExecutionException ex) {
+            Log.warn("Could not consume the output of %s. Caused by %s", description, ex.getMessage());
+        }
         if (result != 0) {
             throw new RuntimeException(description + " failed (executed " + command + ", return code " + result + ")");
         }
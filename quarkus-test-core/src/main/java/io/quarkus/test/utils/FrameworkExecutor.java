@@ -0,0 +1,180 @@
+package io.quarkus.test.utils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+
+/**
+ * Executor for the background work of the framework (log watching, process output consumers, polling...). It uses
+ * virtual threads when the JVM supports them (JDK 21+), otherwise a bounded pool of daemon threads. Most tasks wait
+ * for a long time, so they are not queued: when all the threads of the pool are busy, the task is rejected.
+ */
+public final class FrameworkExecutor {
+
+    private static final PropertyLookup MAX_THREADS = new PropertyLookup("executor.max-threads", "256");
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final String THREAD_PREFIX = "ts-framework-";
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+    private static final AtomicInteger LIVE_THREADS = new AtomicInteger();
+    private static final AtomicInteger ACTIVE_TASKS = new AtomicInteger();
+    private static final AtomicInteger PEAK_TASKS = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private FrameworkExecutor() {
+
+    }
+
+    public static Future<?> submit(Runnable task) {
+        return EXECUTOR.submit(() -> {
+            PEAK_TASKS.accumulateAndGet(ACTIVE_TASKS.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                ACTIVE_TASKS.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * @return an executor running at most the given number of tasks at the same time using the framework executor.
+     *         The rest of the tasks wait for their turn in order.
+     */
+    public static Executor limitedTo(int maxConcurrentTasks) {
+        return new LimitedExecutor(maxConcurrentTasks);
+    }
+
+    /**
+     * @return the executor to use for APIs that require an executor service. It must not be shut down.
+     */
+    public static ExecutorService getExecutorService() {
+        return EXECUTOR;
+    }
+
+    /**
+     * @return the number of threads of the executor that are alive now, either running a task or idle in the pool.
+     *         Virtual threads only live while running their task.
+     */
+    public static int getLiveThreads() {
+        return usesVirtualThreads() ? ACTIVE_TASKS.get() : LIVE_THREADS.get();
+    }
+
+    /**
+     * @return the number of tasks submitted using {@link #submit(Runnable)} that are running now.
+     */
+    public static int getActiveTasks() {
+        return ACTIVE_TASKS.get();
+    }
+
+    /**
+     * @return the max number of tasks submitted using {@link #submit(Runnable)} that were running at the same time.
+     */
+    public static int getPeakTasks() {
+        return PEAK_TASKS.get();
+    }
+
+    public static boolean usesVirtualThreads() {
+        return !(EXECUTOR instanceof ThreadPoolExecutor);
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            // JDK 21+
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            Log.debug("Framework executor uses virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException ex) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(0, MAX_THREADS.getAsInteger(), KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS, new SynchronousQueue<>(), FrameworkExecutor::newThread,
+                    (task, pool) -> {
+                        throw new RejectedExecutionException("All the " + pool.getMaximumPoolSize()
+                                + " framework threads are busy. Increase it using `ts.global.executor.max-threads`");
+                    });
+            Log.debug("Framework executor uses a pool of %s threads", executor.getMaximumPoolSize());
+            return executor;
+        }
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(() -> {
+            LIVE_THREADS.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                LIVE_THREADS.decrementAndGet();
+            }
+        }, THREAD_PREFIX + THREAD_SEQUENCE.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class LimitedExecutor implements Executor {
+
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+        private final int maxConcurrentTasks;
+        private int running;
+
+        private LimitedExecutor(int maxConcurrentTasks) {
+            this.maxConcurrentTasks = Math.max(1, maxConcurrentTasks);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                pending.add(task);
+            }
+
+            runPending();
+        }
+
+        private void runPending() {
+            Runnable next;
+            while ((next = nextTask()) != null) {
+                Runnable task = next;
+                Runnable tracked = () -> {
+                    try {
+                        task.run();
+                    } finally {
+                        onFinished();
+                    }
+                };
+
+                try {
+                    submit(tracked);
+                } catch (RejectedExecutionException ex) {
+                    // all the framework threads are busy, so the task runs in the current thread
+                    tracked.run();
+                }
+            }
+        }
+
+        private synchronized Runnable nextTask() {
+            if (running >= maxConcurrentTasks || pending.isEmpty()) {
+                return null;
+            }
+
+            running++;
+            return pending.poll();
+        }
+
+        private void onFinished() {
+            synchronized (this) {
+                running--;
+            }
+
+            runPending();
+        }
+    }
+}
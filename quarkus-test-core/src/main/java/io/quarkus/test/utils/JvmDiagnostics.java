@@ -0,0 +1,108 @@
+package io.quarkus.test.utils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+
+/**
+ * Capture the state of a running JVM using `jcmd`: thread dump, heap and GC summary and a short JFR recording.
+ */
+public final class JvmDiagnostics {
+
+    private static final PropertyLookup JFR_DURATION = new PropertyLookup("diagnostics.jfr.duration", "5");
+    private static final Duration JCMD_TIMEOUT = Duration.ofSeconds(30);
+    private static final String JFR_FILE = "recording.jfr";
+
+    private JvmDiagnostics() {
+
+    }
+
+    /**
+     * Store the diagnostics of the JVM with the given PID in the folder. Errors are logged and ignored, as the JVM
+     * might not support the commands. Processes that are not a JVM (for example native executables) are skipped.
+     */
+    public static void capture(long pid, Path folder) {
+        Path jcmd = Path.of(System.getProperty("java.home"), "bin", OS.WINDOWS.isCurrentOs() ? "jcmd.exe" : "jcmd");
+        if (!Files.exists(jcmd)) {
+            Log.warn("Could not capture diagnostics of process %s: jcmd not found in %s", pid, jcmd);
+            return;
+        }
+
+        if (!isJvm(pid)) {
+            Log.debug("Skipping diagnostics of process %s as it is not a JVM", pid);
+            return;
+        }
+
+        int jfrSeconds = JFR_DURATION.getAsInteger();
+        boolean recording = jfrSeconds > 0 && run(jcmd, pid, folder.resolve("jfr-start.txt"), "JFR.start",
+                "name=diagnostics", "duration=" + jfrSeconds + "s", "filename=" + folder.resolve(JFR_FILE).toAbsolutePath());
+
+        run(jcmd, pid, folder.resolve("thread-dump.txt"), "Thread.print", "-l");
+        run(jcmd, pid, folder.resolve("heap-info.txt"), "GC.heap_info");
+        run(jcmd, pid, folder.resolve("vm-flags.txt"), "VM.flags");
+
+        if (recording) {
+            // the recording is written when it finishes
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(jfrSeconds + 1));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return false if the executable of the process is known and it is not a java launcher.
+     */
+    private static boolean isJvm(long pid) {
+        return ProcessHandle.of(pid)
+                .flatMap(process -> process.info().command())
+                .map(command -> Path.of(command).getFileName().toString())
+                .map(executable -> executable.equals("java") || executable.equals("java.exe"))
+                .orElse(true);
+    }
+
+    /**
+     * @return true if jcmd finished successfully.
+     */
+    private static boolean run(Path jcmd, long pid, Path output, String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(jcmd.toString());
+        command.add(String.valueOf(pid));
+        command.addAll(Arrays.asList(arguments));
+        try {
+            Process process = ProcessBuilderProvider.command(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(JCMD_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                Log.warn("jcmd %s did not finish in %s seconds", arguments[0], JCMD_TIMEOUT.toSeconds());
+                return false;
+            }
+
+            if (process.exitValue() != 0) {
+                Log.warn("jcmd %s failed on process %s with exit code %s. See %s", arguments[0], pid,
+                        process.exitValue(), output);
+                return false;
+            }
+
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            Log.warn("Could not run jcmd %s on process %s. Caused by %s", arguments[0], pid, ex.getMessage());
+            return false;
+        }
+    }
+}
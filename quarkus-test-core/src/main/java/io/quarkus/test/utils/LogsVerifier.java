@@ -1,7 +1,12 @@
 package io.quarkus.test.utils;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Assertions;
@@ -10,6 +15,10 @@ import io.quarkus.test.bootstrap.Service;
 
 public class LogsVerifier {
 
+    private static final String TIMEOUT_FACTOR_PROPERTY = "factor.timeout";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String ASSERT_CONTAINS_SITE = "LogsVerifier.assertContains";
+
     private final Service service;
 
     public LogsVerifier(Service service) {
@@ -21,15 +30,34 @@ public class LogsVerifier {
     }
 
     /**
-     * Asserts log contains any of {@code expectedLogs}.
+     * Asserts log contains any of {@code expectedLogs}. It returns as soon as the expected log is printed. The time
+     * spent waiting is recorded in {@link AwaitAccounting} as any other wait.
      */
     public void assertContains(String... expectedLogs) {
         Predicate<String> containsExpectedLog = createExpectedLogPredicate(expectedLogs);
-        AwaitilityUtils.untilAsserted(() -> {
-            List<String> actualLogs = service.getLogs();
-            Assertions.assertTrue(actualLogs.stream().anyMatch(containsExpectedLog),
-                    "Log does not contain any of '" + Arrays.toString(expectedLogs) + "'. Full logs: " + actualLogs);
-        });
+        long start = System.nanoTime();
+        try {
+            await(containsExpectedLog, defaultTimeout()).join();
+        } catch (CompletionException ex) {
+            if (!(ex.getCause() instanceof TimeoutException)) {
+                throw ex;
+            }
+
+            Assertions.fail("Log does not contain any of '" + Arrays.toString(expectedLogs) + "'. Full logs: "
+                    + service.getLogs());
+        } finally {
+            // the lines are pushed, so the condition is evaluated once and the line is observed as soon as printed
+            AwaitAccounting.record(service.getScenarioId(), service.getName() + ":" + ASSERT_CONTAINS_SITE,
+                    Duration.ofNanos(System.nanoTime() - start), 1, Duration.ZERO);
+        }
+    }
+
+    /**
+     * @return a future completed with the first log line matching the predicate, either already printed or printed
+     *         from now on, or completed exceptionally with a {@link TimeoutException} after the timeout.
+     */
+    public CompletableFuture<String> await(Predicate<String> predicate, Duration timeout) {
+        return service.awaitLog(predicate).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     private Predicate<String> createExpectedLogPredicate(String[] expectedLogs) {
@@ -39,6 +67,11 @@ public class LogsVerifier {
         return log -> Arrays.stream(expectedLogs).anyMatch(log::contains);
     }
 
+    private Duration defaultTimeout() {
+        double timeoutFactor = service.getConfiguration().getAsDouble(TIMEOUT_FACTOR_PROPERTY, 1.0);
+        return Duration.ofMillis(Math.round(DEFAULT_TIMEOUT.toMillis() * timeoutFactor));
+    }
+
     public void assertDoesNotContain(String unexpectedLog) {
         List<String> actualLogs = service.getLogs();
         Assertions.assertTrue(actualLogs.stream().noneMatch(line -> line.contains(unexpectedLog)),
@@ -0,0 +1,177 @@
+package io.quarkus.test.utils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+
+/**
+ * Machine-wide budget of permits shared by all the JVMs running tests (for example Surefire forks), so heavy actions
+ * like builds or service starts don't oversubscribe the machine. Every permit is a locked file in
+ * `scheduler.folder`, and actions acquire as many permits as their weight before running.
+ */
+public final class ResourceScheduler {
+
+    private static final PropertyLookup ENABLED = new PropertyLookup("scheduler.enabled", Boolean.FALSE.toString());
+    private static final PropertyLookup BUDGET = new PropertyLookup("scheduler.budget");
+    private static final PropertyLookup FOLDER = new PropertyLookup("scheduler.folder",
+            Path.of(System.getProperty("java.io.tmpdir"), "quarkus-test-framework-scheduler").toString());
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(500);
+    private static final Duration LOG_INTERVAL = Duration.ofSeconds(30);
+    private static final String MUTEX_FILE = "scheduler.lock";
+    private static final String PERMIT_FILE = "permit-";
+    private static final Lease NO_LEASE = new Lease(List.of(), List.of());
+
+    /**
+     * Permits held by this JVM. A permit file is never opened twice by the same JVM, as closing any channel of a file
+     * might release all the locks of the process on that file.
+     */
+    private static final Set<Integer> HELD = new HashSet<>();
+
+    private ResourceScheduler() {
+
+    }
+
+    /**
+     * Wait until there are enough permits for the weight. Weights bigger than the budget acquire the whole budget.
+     *
+     * @return the lease of the permits to close when the action has finished.
+     */
+    public static Lease acquire(String action, int weight) {
+        if (!ENABLED.getAsBoolean() || weight <= 0) {
+            return NO_LEASE;
+        }
+
+        int budget = getBudget();
+        int wanted = Math.min(weight, budget);
+        long started = System.nanoTime();
+        long nextLog = started + LOG_INTERVAL.toNanos();
+        try {
+            Path folder = Path.of(FOLDER.get());
+            Files.createDirectories(folder);
+            while (true) {
+                Lease lease = tryAcquire(folder, wanted, budget);
+                if (lease != null) {
+                    Log.debug("Acquired %s permits to %s after %s ms", wanted, action,
+                            Duration.ofNanos(System.nanoTime() - started).toMillis());
+                    return lease;
+                }
+
+                if (System.nanoTime() > nextLog) {
+                    Log.info("Waiting for %s of %s machine permits to %s", wanted, budget, action);
+                    nextLog = System.nanoTime() + LOG_INTERVAL.toNanos();
+                }
+
+                Thread.sleep(RETRY_INTERVAL.toMillis());
+            }
+        } catch (IOException ex) {
+            Log.warn("Could not acquire permits to %s. Caused by %s", action, ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        return NO_LEASE;
+    }
+
+    private static synchronized Lease tryAcquire(Path folder, int wanted, int budget) throws IOException {
+        // the mutex avoids JVMs holding part of the permits they need and blocking each other
+        try (FileChannel mutexChannel = open(folder.resolve(MUTEX_FILE));
+                FileLock ignored = mutexChannel.lock()) {
+            List<Integer> indexes = new ArrayList<>();
+            List<FileChannel> channels = new ArrayList<>();
+            for (int index = 0; index < budget && indexes.size() < wanted; index++) {
+                if (HELD.contains(index)) {
+                    continue;
+                }
+
+                FileChannel channel = open(folder.resolve(PERMIT_FILE + index));
+                if (tryLock(channel)) {
+                    indexes.add(index);
+                    channels.add(channel);
+                } else {
+                    channel.close();
+                }
+            }
+
+            if (indexes.size() < wanted) {
+                for (FileChannel channel : channels) {
+                    channel.close();
+                }
+
+                return null;
+            }
+
+            HELD.addAll(indexes);
+            return new Lease(indexes, channels);
+        }
+    }
+
+    private static synchronized void release(List<Integer> indexes, List<FileChannel> channels) {
+        for (FileChannel channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                Log.warn("Could not release machine permit. Caused by %s", ex.getMessage());
+            }
+        }
+
+        HELD.removeAll(indexes);
+    }
+
+    private static boolean tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock() != null;
+        } catch (OverlappingFileLockException ex) {
+            return false;
+        }
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    private static int getBudget() {
+        String budget = BUDGET.get();
+        if (StringUtils.isEmpty(budget)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        return Math.max(1, Integer.parseInt(budget));
+    }
+
+    /**
+     * Machine permits held until closed.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final List<Integer> indexes;
+        private final List<FileChannel> channels;
+        private boolean released;
+
+        private Lease(List<Integer> indexes, List<FileChannel> channels) {
+            this.indexes = indexes;
+            this.channels = channels;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released && !indexes.isEmpty()) {
+                released = true;
+                release(indexes, channels);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkus.test.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ServiceLoaderUtils {
+
+    private static final Map<Class<?>, List<?>> PROVIDERS = new ConcurrentHashMap<>();
+
+    private ServiceLoaderUtils() {
+
+    }
+
+    /**
+     * @return the providers of the service type. Providers are loaded once, so it must only be used for stateless
+     *         providers.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> loadAll(Class<T> serviceType) {
+        return (List<T>) PROVIDERS.computeIfAbsent(serviceType, type -> {
+            List<T> providers = new ArrayList<>();
+            ServiceLoader.load(serviceType).forEach(providers::add);
+            return Collections.unmodifiableList(providers);
+        });
+    }
+}
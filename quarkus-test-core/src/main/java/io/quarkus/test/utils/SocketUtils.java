@@ -3,6 +3,8 @@ package io.quarkus.test.utils;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.quarkus.test.configuration.PropertyLookup;
@@ -19,12 +21,13 @@ public final class SocketUtils {
 
     private static final AtomicInteger CURRENT_MIN_PORT = new AtomicInteger(PORT_RANGE_MIN);
     private static final Random RND = new Random(System.nanoTime());
+    private static final Set<Integer> ASSIGNED_PORTS = ConcurrentHashMap.newKeySet();
 
     private SocketUtils() {
 
     }
 
-    public static synchronized int findAvailablePort() {
+    public static int findAvailablePort() {
         if (PORT_RESOLUTION_RANDOM_STRATEGY.equals(PORT_RESOLUTION_STRATEGY_PROPERTY.get())) {
             return findRandomAvailablePort();
         }
@@ -45,16 +48,16 @@ public final class SocketUtils {
 
             candidatePort = PORT_RANGE_MIN + RND.nextInt((PORT_RANGE_MAX - PORT_RANGE_MIN) + 1);
             searchCounter++;
-        } while (!isPortAvailable(candidatePort));
+        } while (!isPortAvailable(candidatePort) || !ASSIGNED_PORTS.add(candidatePort));
 
         return candidatePort;
     }
 
-    public static synchronized int findNextAvailablePort() {
+    public static int findNextAvailablePort() {
         int candidate;
         do {
             candidate = CURRENT_MIN_PORT.incrementAndGet();
-            if (isPortAvailable(candidate)) {
+            if (isPortAvailable(candidate) && ASSIGNED_PORTS.add(candidate)) {
                 return candidate;
             }
         } while (candidate <= PORT_RANGE_MAX);
@@ -63,6 +66,18 @@ public final class SocketUtils {
                 PORT_RANGE_MIN, PORT_RANGE_MAX));
     }
 
+    /**
+     * Give back a port returned by {@link #findAvailablePort()} once it's not used anymore, so it can be assigned
+     * again.
+     */
+    public static void releasePort(int port) {
+        ASSIGNED_PORTS.remove(port);
+    }
+
+    static boolean isAssigned(int port) {
+        return ASSIGNED_PORTS.contains(port);
+    }
+
     private static boolean isPortAvailable(int port) {
         if (port < PORT_RANGE_MIN || port > PORT_RANGE_MAX) {
             throw new IllegalArgumentException("Invalid start port: " + port);
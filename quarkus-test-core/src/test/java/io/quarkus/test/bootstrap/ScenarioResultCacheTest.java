@@ -0,0 +1,55 @@
+package io.quarkus.test.bootstrap;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ScenarioResultCacheTest {
+
+    @Test
+    void scenarioIsCompleteOnlyWhenAllTestMethodsPassed() throws NoSuchMethodException {
+        Method first = SampleScenario.class.getDeclaredMethod("first");
+        Method second = SampleScenario.class.getDeclaredMethod("second", String.class);
+        Method inherited = BaseScenario.class.getDeclaredMethod("inherited");
+
+        Assertions.assertFalse(ScenarioResultCache.isComplete(SampleScenario.class, Set.of(first)));
+        Assertions.assertFalse(ScenarioResultCache.isComplete(SampleScenario.class, Set.of(first, second)));
+        Assertions.assertTrue(ScenarioResultCache.isComplete(SampleScenario.class, Set.of(first, second, inherited)));
+    }
+
+    @Test
+    void hashDependsOnTheTestClass() {
+        Assertions.assertNotEquals(ScenarioResultCache.hashOf(SampleScenario.class),
+                ScenarioResultCache.hashOf(BaseScenario.class));
+    }
+
+    private abstract static class BaseScenario {
+
+        @Test
+        void inherited() {
+
+        }
+    }
+
+    private static final class SampleScenario extends BaseScenario {
+
+        @Test
+        void first() {
+
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = "value")
+        void second(String value) {
+
+        }
+
+        void helper() {
+
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.test.bootstrap;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ScenarioShardingFilterTest {
+
+    @Test
+    void longestClassesAreSpreadAcrossShards() {
+        Map<String, Duration> durations = Map.of(
+                "OpenShiftA", Duration.ofMinutes(10),
+                "OpenShiftB", Duration.ofMinutes(8),
+                "Rest", Duration.ofMinutes(3),
+                "Grpc", Duration.ofMinutes(2),
+                "Kafka", Duration.ofMinutes(4));
+
+        List<Set<String>> shards = ScenarioShardingFilter.split(durations.keySet(), durations, 2);
+        Assertions.assertEquals(Set.of("OpenShiftA", "Rest"), shards.get(0));
+        Assertions.assertEquals(Set.of("OpenShiftB", "Kafka", "Grpc"), shards.get(1));
+    }
+
+    @Test
+    void classesWithoutDurationCountAsAverage() {
+        Map<String, Duration> durations = Map.of(
+                "Slow", Duration.ofMinutes(6),
+                "Fast", Duration.ofMinutes(2));
+
+        List<Set<String>> shards = ScenarioShardingFilter.split(List.of("Slow", "Fast", "New"), durations, 2);
+        Assertions.assertEquals(Set.of("Slow"), shards.get(0));
+        Assertions.assertEquals(Set.of("New", "Fast"), shards.get(1));
+    }
+
+    @Test
+    void shardIndexMustBeWithinTotal() {
+        ScenarioShardingFilter.validate(0, 1);
+        ScenarioShardingFilter.validate(2, 3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScenarioShardingFilter.validate(3, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScenarioShardingFilter.validate(-1, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScenarioShardingFilter.validate(0, 0));
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.test.bootstrap;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ServiceDependencyGraphTest {
+
+    @Test
+    void startOrderKeepsDeclarationOrderWithoutDependencies() {
+        DefaultService first = new DefaultService();
+        DefaultService second = new DefaultService();
+
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(List.of(first, second));
+        Assertions.assertEquals(List.of(first, second), graph.getStartOrder());
+    }
+
+    @Test
+    void startOrderStartsDependenciesFirst() {
+        DefaultService database = new DefaultService();
+        DefaultService app = new DefaultService().dependsOn(database);
+
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(List.of(app, database));
+        Assertions.assertEquals(List.of(database, app), graph.getStartOrder());
+    }
+
+    @Test
+    void cyclicDependenciesAreRejected() {
+        DefaultService first = new DefaultService();
+        DefaultService second = new DefaultService().dependsOn(first);
+        first.dependsOn(second);
+
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(List.of(first, second));
+        Assertions.assertThrows(IllegalStateException.class, graph::getStartOrder);
+    }
+
+    @Test
+    void parallelActionsWaitForDependencies() {
+        DefaultService database = new DefaultService();
+        DefaultService broker = new DefaultService();
+        DefaultService app = new DefaultService().dependsOn(database, broker);
+
+        List<Service> started = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new ServiceDependencyGraph(List.of(app, database, broker)).forEachInStartOrder(started::add, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(3, started.size());
+        Assertions.assertEquals(app, started.get(2));
+    }
+
+    @Test
+    void stopOrderStopsDependentsFirstEvenIfTheyFail() {
+        DefaultService database = new DefaultService();
+        DefaultService app = new DefaultService().dependsOn(database);
+
+        List<Service> stopped = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ServiceDependencyGraph graph = new ServiceDependencyGraph(List.of(database, app));
+            Assertions.assertEquals(List.of(app, database), graph.getStopOrder());
+            Assertions.assertThrows(IllegalStateException.class, () -> graph.forEachInStopOrder(service -> {
+                stopped.add(service);
+                if (service == app) {
+                    throw new IllegalStateException("app failed to stop");
+                }
+            }, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(List.of(app, database), stopped);
+    }
+
+    @Test
+    void sequentialStopRunsEveryActionAndKeepsTheOtherFailures() {
+        DefaultService database = new DefaultService();
+        DefaultService app = new DefaultService().dependsOn(database);
+
+        List<Service> stopped = new CopyOnWriteArrayList<>();
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(List.of(database, app));
+        IllegalStateException failure = Assertions.assertThrows(IllegalStateException.class,
+                () -> graph.forEachInStopOrder(service -> {
+                    stopped.add(service);
+                    throw new IllegalStateException(service == app ? "app failed" : "database failed");
+                }));
+
+        Assertions.assertEquals(List.of(app, database), stopped);
+        Assertions.assertEquals("app failed", failure.getMessage());
+        Assertions.assertEquals(1, failure.getSuppressed().length);
+        Assertions.assertEquals("database failed", failure.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void parallelActionsPropagateFirstFailure() {
+        DefaultService database = new DefaultService();
+        DefaultService app = new DefaultService().dependsOn(database);
+
+        List<Service> started = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ServiceDependencyGraph graph = new ServiceDependencyGraph(List.of(app, database));
+            IllegalStateException failure = Assertions.assertThrows(IllegalStateException.class,
+                    () -> graph.forEachInStartOrder(service -> {
+                        if (service == database) {
+                            throw new IllegalStateException("database failed");
+                        }
+
+                        started.add(service);
+                    }, executor));
+            Assertions.assertEquals("database failed", failure.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertTrue(started.isEmpty());
+    }
+}
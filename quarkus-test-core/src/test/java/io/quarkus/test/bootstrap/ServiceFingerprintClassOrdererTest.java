@@ -0,0 +1,36 @@
+package io.quarkus.test.bootstrap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ServiceFingerprintClassOrdererTest {
+
+    @Test
+    void scenariosSharingServicesRunTogether() {
+        Map<String, Set<String>> fingerprints = Map.of(
+                "A", Set.of("postgres", "app"),
+                "B", Set.of("kafka"),
+                "C", Set.of("postgres", "app"),
+                "D", Set.of("kafka", "app"));
+
+        List<String> order = ServiceFingerprintClassOrderer.groupBySharedFingerprints(List.of("A", "B", "C", "D"),
+                fingerprints::get);
+        Assertions.assertEquals(List.of("A", "C", "D", "B"), order);
+    }
+
+    @Test
+    void scenariosWithoutSharedServicesKeepOriginalOrder() {
+        Map<String, Set<String>> fingerprints = Map.of(
+                "A", Set.of("postgres"),
+                "B", Set.of("kafka"),
+                "C", Set.of("mysql"));
+
+        List<String> order = ServiceFingerprintClassOrderer.groupBySharedFingerprints(List.of("A", "B", "C"),
+                fingerprints::get);
+        Assertions.assertEquals(List.of("A", "B", "C"), order);
+    }
+}
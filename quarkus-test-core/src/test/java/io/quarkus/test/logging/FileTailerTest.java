@@ -0,0 +1,104 @@
+package io.quarkus.test.logging;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileTailerTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void onlyAppendedLinesAreRead() throws IOException {
+        Path file = folder.resolve("out.log");
+        FileTailer tailer = new FileTailer(file);
+        List<String> lines = new ArrayList<>();
+
+        Files.writeString(file, "first\nsecond\n");
+        tailer.readNewLines(lines::add);
+        append(file, "third\r\n\n");
+        tailer.readNewLines(lines::add);
+
+        Assertions.assertEquals(List.of("first", "second", "third"), lines);
+    }
+
+    @Test
+    void partialLineIsReadWhenCompleted() throws IOException {
+        Path file = folder.resolve("out.log");
+        FileTailer tailer = new FileTailer(file);
+        List<String> lines = new ArrayList<>();
+
+        Files.writeString(file, "first\nsec");
+        tailer.readNewLines(lines::add);
+        Assertions.assertEquals(List.of("first"), lines);
+
+        append(file, "ond\nthi");
+        tailer.readNewLines(lines::add);
+        Assertions.assertEquals(List.of("first", "second"), lines);
+
+        tailer.readRemaining(lines::add);
+        Assertions.assertEquals(List.of("first", "second", "thi"), lines);
+    }
+
+    @Test
+    void truncatedFileIsReadFromTheBeginning() throws IOException {
+        Path file = folder.resolve("out.log");
+        FileTailer tailer = new FileTailer(file);
+        List<String> lines = new ArrayList<>();
+
+        Files.writeString(file, "a long first line\n");
+        tailer.readNewLines(lines::add);
+        Files.writeString(file, "new\n");
+        tailer.readNewLines(lines::add);
+
+        Assertions.assertEquals(List.of("a long first line", "new"), lines);
+    }
+
+    @Test
+    void fileHandlerServesTheAppendedLinesFromTheStore() throws IOException {
+        Path file = folder.resolve("out.log");
+        FileLoggingHandler handler = new FileLoggingHandler(file.toFile());
+
+        Files.writeString(file, "first\n");
+        Assertions.assertEquals(List.of("first"), handler.logs());
+        append(file, "second\n");
+        Assertions.assertEquals(List.of("first", "second"), handler.logs());
+        Assertions.assertTrue(handler.logsContains("sec.*"));
+
+        append(file, "stopped\n");
+        handler.stopWatching();
+        Assertions.assertEquals(List.of("first", "second", "stopped"), handler.logs());
+    }
+
+    @Test
+    void fileHandlerRecordsWhenTheFirstLineIsReceived() throws IOException {
+        Path file = folder.resolve("out.log");
+        FileLoggingHandler handler = new FileLoggingHandler(file.toFile());
+        Files.writeString(file, "");
+        handler.logs();
+        Assertions.assertTrue(handler.getFirstLineTime().isEmpty());
+
+        long beforeFirstLine = System.nanoTime();
+        append(file, "first\n");
+        handler.logs();
+        long firstLineTime = handler.getFirstLineTime().orElseThrow();
+        Assertions.assertTrue(firstLineTime - beforeFirstLine >= 0);
+
+        append(file, "second\n");
+        handler.logs();
+        Assertions.assertEquals(Optional.of(firstLineTime), handler.getFirstLineTime());
+    }
+
+    private static void append(Path file, String content) throws IOException {
+        Files.writeString(file, content, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.test.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LogMatcherTest {
+
+    @Test
+    void automatonFindsOverlappingLiterals() {
+        List<Integer> found = new ArrayList<>();
+        new AhoCorasickAutomaton(List.of("he", "she", "his", "hers")).search("ushers", found::add);
+        Assertions.assertEquals(List.of(1, 0, 3), found);
+    }
+
+    @Test
+    void expectedTextsAreFoundInHistoryAndNewLines() {
+        LogMatcher matcher = new LogMatcher();
+        List<String> history = List.of("INFO Installed features: [cdi]");
+
+        Assertions.assertTrue(matcher.contains("Installed features", () -> history));
+        Assertions.assertFalse(matcher.contains("Failed to start application", () -> history));
+        Assertions.assertFalse(matcher.contains("Listening on: http://.*:8080", () -> history));
+
+        matcher.onLine("ERROR Failed to start application");
+        matcher.onLine("INFO Listening on: http://0.0.0.0:8080");
+
+        Assertions.assertTrue(matcher.contains("Failed to start application", List::of));
+        Assertions.assertTrue(matcher.contains("Listening on: http://.*:8080", List::of));
+    }
+
+    @Test
+    void historyIsSearchedAgainAfterReset() {
+        LogMatcher matcher = new LogMatcher();
+        Assertions.assertTrue(matcher.contains("started", () -> List.of("service started")));
+
+        matcher.reset();
+
+        Assertions.assertFalse(matcher.contains("started", List::of));
+    }
+}
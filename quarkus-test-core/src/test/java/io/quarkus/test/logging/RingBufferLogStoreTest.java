@@ -0,0 +1,55 @@
+package io.quarkus.test.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RingBufferLogStoreTest {
+
+    private static final int CAPACITY = 100;
+    private static final int LINES = 1000;
+
+    @Test
+    void spilledLinesAreReadInOrder() {
+        RingBufferLogStore store = new RingBufferLogStore(CAPACITY);
+        for (int i = 0; i < LINES; i++) {
+            store.append("line " + i);
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            expected.add("line " + i);
+        }
+
+        List<String> snapshot = store.snapshot();
+        Assertions.assertEquals(expected, new ArrayList<>(snapshot));
+        Assertions.assertEquals("line 257", snapshot.get(257));
+        Assertions.assertEquals("line 950", snapshot.get(950));
+    }
+
+    @Test
+    void snapshotDoesNotIncludeNewLines() {
+        RingBufferLogStore store = new RingBufferLogStore(CAPACITY);
+        store.append("first");
+        List<String> snapshot = store.snapshot();
+        store.append("second");
+
+        Assertions.assertEquals(List.of("first"), snapshot);
+        Assertions.assertEquals(List.of("first", "second"), store.snapshot());
+    }
+
+    @Test
+    void clearRemovesAllLines() {
+        RingBufferLogStore store = new RingBufferLogStore(CAPACITY);
+        for (int i = 0; i < LINES; i++) {
+            store.append("line " + i);
+        }
+
+        store.clear();
+        store.append("after clear");
+
+        Assertions.assertEquals(List.of("after clear"), store.snapshot());
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.test.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.awaitility.pollinterval.PollInterval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.utils.AwaitilityUtils.PollStrategy;
+
+class PollStrategyTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(500);
+
+    @Test
+    void fibonacciIncreasesUpToTheInterval() {
+        Assertions.assertEquals(millis(50, 50, 100, 150, 250, 400, 500, 500),
+                intervals(PollStrategy.FIBONACCI, INTERVAL, 8));
+    }
+
+    @Test
+    void exponentialDoublesUpToTheInterval() {
+        Assertions.assertEquals(millis(50, 100, 200, 400, 500, 500),
+                intervals(PollStrategy.EXPONENTIAL, INTERVAL, 6));
+    }
+
+    @Test
+    void adaptiveStrategiesNeverStartAboveTheInterval() {
+        Duration interval = Duration.ofMillis(20);
+        Assertions.assertEquals(millis(20, 20, 20), intervals(PollStrategy.FIBONACCI, interval, 3));
+        Assertions.assertEquals(millis(20, 20, 20), intervals(PollStrategy.EXPONENTIAL, interval, 3));
+    }
+
+    private static List<Duration> intervals(PollStrategy strategy, Duration interval, int polls) {
+        PollInterval pollInterval = strategy.toPollInterval(interval);
+        List<Duration> intervals = new ArrayList<>();
+        Duration previous = Duration.ZERO;
+        for (int pollCount = 1; pollCount <= polls; pollCount++) {
+            previous = pollInterval.next(pollCount, previous);
+            intervals.add(previous);
+        }
+
+        return intervals;
+    }
+
+    private static List<Duration> millis(long... values) {
+        List<Duration> durations = new ArrayList<>();
+        for (long value : values) {
+            durations.add(Duration.ofMillis(value));
+        }
+
+        return durations;
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.test.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SocketUtilsTest {
+
+    private static final int THREADS = 8;
+    private static final int PORTS_PER_THREAD = 25;
+
+    @Test
+    void randomPortsAreUniqueWhenAllocatedInParallel() throws Exception {
+        assertUniqueWhenAllocatedInParallel(SocketUtils::findRandomAvailablePort);
+    }
+
+    @Test
+    void nextPortsAreUniqueWhenAllocatedInParallel() throws Exception {
+        assertUniqueWhenAllocatedInParallel(SocketUtils::findNextAvailablePort);
+    }
+
+    @Test
+    void releasedPortIsNotAssignedAnymore() {
+        int port = SocketUtils.findRandomAvailablePort();
+        Assertions.assertTrue(SocketUtils.isAssigned(port));
+
+        SocketUtils.releasePort(port);
+
+        Assertions.assertFalse(SocketUtils.isAssigned(port));
+    }
+
+    private static void assertUniqueWhenAllocatedInParallel(IntSupplier allocator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Integer> ports = new ArrayList<>();
+        try {
+            List<Callable<List<Integer>>> allocations = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                allocations.add(() -> {
+                    List<Integer> allocated = new ArrayList<>();
+                    for (int index = 0; index < PORTS_PER_THREAD; index++) {
+                        allocated.add(allocator.getAsInt());
+                    }
+
+                    return allocated;
+                });
+            }
+
+            for (Future<List<Integer>> allocation : executor.invokeAll(allocations)) {
+                ports.addAll(allocation.get());
+            }
+
+            Set<Integer> unique = new HashSet<>(ports);
+            Assertions.assertEquals(THREADS * PORTS_PER_THREAD, unique.size(), "Some ports were assigned twice");
+        } finally {
+            executor.shutdownNow();
+            ports.forEach(SocketUtils::releasePort);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkus.test.services.knative.eventing;
 
 import io.quarkus.test.bootstrap.ScenarioContext;
 import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.configuration.Configuration;
 
 public class OpenShiftExtensionFunqyKnativeEventsService extends FunqyKnativeEventsService {
 
@@ -12,6 +13,7 @@ public class OpenShiftExtensionFunqyKnativeEventsService extends FunqyKnativeEve
         System.setProperty(serviceScopePrefix + ".quarkus.kubernetes.deployment-target", "knative");
         System.setProperty(serviceScopePrefix + ".quarkus.container-image.registry",
                 "image-registry.openshift-image-registry.svc:5000");
+        Configuration.refresh();
         return super.register(serviceName, context);
     }
 
@@ -1,18 +1,19 @@
 package io.quarkus.test.services.containers;
 
 import java.lang.annotation.Annotation;
-import java.util.ServiceLoader;
+import java.util.List;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.services.AmqContainer;
 import io.quarkus.test.services.containers.model.AmqProtocol;
 import io.quarkus.test.utils.PropertiesUtils;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class AmqContainerManagedResourceBuilder extends ContainerManagedResourceBuilder {
 
-    private final ServiceLoader<AmqContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoader
-            .load(AmqContainerManagedResourceBinding.class);
+    private final List<AmqContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoaderUtils
+            .loadAll(AmqContainerManagedResourceBinding.class);
 
     private ServiceContext context;
     private String image;
@@ -62,4 +63,10 @@ public class AmqContainerManagedResourceBuilder extends ContainerManagedResource
 
         return new GenericDockerContainerManagedResource(this);
     }
+
+    @Override
+    protected void rebind(ServiceContext context) {
+        super.rebind(context);
+        this.context = context;
+    }
 }
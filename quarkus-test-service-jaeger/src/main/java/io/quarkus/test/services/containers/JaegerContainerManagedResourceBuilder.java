@@ -1,16 +1,17 @@
 package io.quarkus.test.services.containers;
 
 import java.lang.annotation.Annotation;
-import java.util.ServiceLoader;
+import java.util.List;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.services.JaegerContainer;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class JaegerContainerManagedResourceBuilder extends ContainerManagedResourceBuilder {
 
-    private final ServiceLoader<JaegerContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoader
-            .load(JaegerContainerManagedResourceBinding.class);
+    private final List<JaegerContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoaderUtils
+            .loadAll(JaegerContainerManagedResourceBinding.class);
 
     private ServiceContext context;
     private String image;
@@ -72,4 +73,10 @@ public class JaegerContainerManagedResourceBuilder extends ContainerManagedResou
 
         return new JaegerGenericDockerContainerManagedResource(this);
     }
+
+    @Override
+    protected void rebind(ServiceContext context) {
+        super.rebind(context);
+        this.context = context;
+    }
 }
@@ -5,7 +5,7 @@ import static io.quarkus.test.bootstrap.JaegerService.JAEGER_TRACE_URL_PROPERTY;
 import org.testcontainers.containers.GenericContainer;
 
 import io.quarkus.test.bootstrap.Protocol;
-import io.quarkus.test.utils.DockerUtils;
+import io.quarkus.test.bootstrap.ServiceContext;
 
 public class JaegerGenericDockerContainerManagedResource extends GenericDockerContainerManagedResource {
 
@@ -24,11 +24,16 @@ public class JaegerGenericDockerContainerManagedResource extends GenericDockerCo
         model.getContext().put(JAEGER_TRACE_URL_PROPERTY, getJaegerTraceUrl());
     }
 
+    @Override
+    public void rebind(ServiceContext context) {
+        super.rebind(context);
+        model.getContext().put(JAEGER_TRACE_URL_PROPERTY, getJaegerTraceUrl());
+    }
+
     @Override
     protected GenericContainer<?> initContainer() {
         GenericContainer<?> container = super.initContainer();
         container.addExposedPort(model.getTracePort());
-        container.withCreateContainerCmdModifier(cmd -> cmd.withName(DockerUtils.generateDockerContainerName()));
 
         if (model.shouldUseOtlpCollector()) {
             container.addEnv(COLLECTOR_OTLP_ENABLED, "true");
@@ -1,7 +1,7 @@
 package io.quarkus.test.services.containers;
 
 import java.lang.annotation.Annotation;
-import java.util.ServiceLoader;
+import java.util.List;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ManagedResourceBuilder;
@@ -10,10 +10,11 @@ import io.quarkus.test.services.KafkaContainer;
 import io.quarkus.test.services.containers.model.KafkaProtocol;
 import io.quarkus.test.services.containers.model.KafkaVendor;
 import io.quarkus.test.utils.PropertiesUtils;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class KafkaContainerManagedResourceBuilder implements ManagedResourceBuilder {
-    private final ServiceLoader<KafkaContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoader
-            .load(KafkaContainerManagedResourceBinding.class);
+    private final List<KafkaContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoaderUtils
+            .loadAll(KafkaContainerManagedResourceBinding.class);
 
     private ServiceContext context;
     private KafkaVendor vendor;
@@ -1,16 +1,17 @@
 package io.quarkus.test.services.containers;
 
 import java.lang.annotation.Annotation;
-import java.util.ServiceLoader;
+import java.util.List;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.services.KeycloakContainer;
+import io.quarkus.test.utils.ServiceLoaderUtils;
 
 public class KeycloakContainerManagedResourceBuilder extends ContainerManagedResourceBuilder {
 
-    private final ServiceLoader<KeycloakContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoader
-            .load(KeycloakContainerManagedResourceBinding.class);
+    private final List<KeycloakContainerManagedResourceBinding> managedResourceBindingsRegistry = ServiceLoaderUtils
+            .loadAll(KeycloakContainerManagedResourceBinding.class);
 
     private ServiceContext context;
     private String image;
@@ -63,4 +64,10 @@ public class KeycloakContainerManagedResourceBuilder extends ContainerManagedRes
 
         return new KeycloakGenericDockerContainerManagedResource(this);
     }
+
+    @Override
+    protected void rebind(ServiceContext context) {
+        super.rebind(context);
+        this.context = context;
+    }
 }
@@ -37,14 +37,15 @@ public class KeycloakGenericDockerContainerManagedResource extends GenericDocker
             container.setPrivilegedMode(true);
         }
 
-        container.withCreateContainerCmdModifier(cmd -> cmd.withName(DockerUtils.generateDockerContainerName()));
-
         if (isReusable()) {
             Log.info(model.getContext().getOwner(), "Running container on Reusable mode");
             Log.warn(model.getContext().getOwner(), "Reusable mode expose testcontainers 'withReuse' method that is"
                     + " tagged as UnstableAPI, so is a subject to change and SHOULD NOT be considered a stable API");
 
             container.withReuse(true);
+        } else {
+            // reusable containers are not named, as a random name would change the hash used to find them again
+            container.withCreateContainerCmdModifier(cmd -> cmd.withName(DockerUtils.generateDockerContainerName()));
         }
 
         container.withExposedPorts(model.getPort());